@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
@@ -23,6 +24,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @EntityScan("io.github.hogwartsschoolofmagic")
 @EnableJpaRepositories("io.github.hogwartsschoolofmagic")
 @ConfigurationPropertiesScan("io.github.hogwartsschoolofmagic.user.config.properties")
+@RemoteApplicationEventScan("io.github.hogwartsschoolofmagic.user.event")
 public class UserApp {
   /**
    * The Main method that launches the Spring context of the application - and outputs the duration
@@ -1,11 +1,14 @@
 package io.github.hogwartsschoolofmagic.user.config;
 
 import static java.lang.Boolean.TRUE;
-import static java.nio.charset.StandardCharsets.UTF_8;
 
+import io.github.hogwartsschoolofmagic.user.config.properties.MessagesProperties;
+import io.github.hogwartsschoolofmagic.user.message.PrecompiledMessageSource;
+import io.github.hogwartsschoolofmagic.user.security.UserLocaleResolver;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.LocaleResolver;
 
 /**
  * Configuration java class for declaring and configuring a bean for localization of regular and
@@ -18,17 +21,28 @@ import org.springframework.context.support.ResourceBundleMessageSource;
 public class MessagesConfig {
 
   /**
-   * <p> Getting and configuring a ResourceBundle to localize messages by key. </p>
+   * <p> Getting and configuring a message source to localize messages by key. All messages are
+   * loaded and compiled at startup. </p>
    *
+   * @param messagesProperties settings for loading messages.
    * @return configuration object with settings for receiving messages.
    */
   @Bean
-  public ResourceBundleMessageSource messages() {
-    var source = new ResourceBundleMessageSource();
-    source.setBasenames("messages/labels");
-    source.setDefaultEncoding(UTF_8.name());
+  public PrecompiledMessageSource messages(MessagesProperties messagesProperties) {
+    var source = new PrecompiledMessageSource(messagesProperties);
     source.setUseCodeAsDefaultMessage(TRUE);
 
     return source;
   }
+
+  /**
+   * <p> Getting a stateless resolver of the request language. The bean name is the one under
+   * which {@link DispatcherServlet} looks for it. </p>
+   *
+   * @return resolver of the request language.
+   */
+  @Bean(name = DispatcherServlet.LOCALE_RESOLVER_BEAN_NAME)
+  public LocaleResolver localeResolver() {
+    return new UserLocaleResolver();
+  }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package io.github.hogwartsschoolofmagic.user.config;
+
+import io.github.hogwartsschoolofmagic.user.config.properties.HashingProperties;
+import io.github.hogwartsschoolofmagic.user.config.properties.HashingProperties.CalibrationMode;
+import io.github.hogwartsschoolofmagic.user.security.password.BcryptCostCalibrator;
+import io.github.hogwartsschoolofmagic.user.security.password.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Configuration java class for setting up the hashing of user passwords.
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.11
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+  private static final String BCRYPT_ID = "bcrypt";
+
+  /**
+   * Method for creating a password encoder that hashes passwords on a separate bounded pool. New
+   * hashes are prefixed with the id of the algorithm, and hashes without the prefix, stored
+   * before it appeared, are checked as BCrypt. After a successful login, a hash with another
+   * algorithm or a lower cost is replaced with a new one.
+   *
+   * @param hashingProperties settings of the hashing pool.
+   * @param meterRegistry     registry for publishing pool metrics.
+   * @return password encoder.
+   */
+  @Bean
+  public PasswordEncoder passwordEncoder(HashingProperties hashingProperties,
+                                         MeterRegistry meterRegistry) {
+    var strength = hashingProperties.getBcryptStrength();
+    var calibration = hashingProperties.getCalibration();
+    if (calibration.getMode() != CalibrationMode.OFF) {
+      var calibrated = BcryptCostCalibrator.calibrate(calibration.getTarget(), strength);
+      if (calibration.getMode() == CalibrationMode.APPLY) {
+        strength = calibrated;
+      }
+    }
+
+    var bcrypt = new BCryptPasswordEncoder(strength);
+    var delegating = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+    delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+    return new BoundedPasswordEncoder(delegating, hashingProperties, meterRegistry);
+  }
+}
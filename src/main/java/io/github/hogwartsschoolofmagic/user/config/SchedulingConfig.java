@@ -0,0 +1,45 @@
+package io.github.hogwartsschoolofmagic.user.config;
+
+import io.github.hogwartsschoolofmagic.user.config.properties.LastVisitProperties;
+import io.github.hogwartsschoolofmagic.user.config.properties.MailOutboxProperties;
+import io.github.hogwartsschoolofmagic.user.config.properties.SmtpPoolProperties;
+import io.github.hogwartsschoolofmagic.user.mail.SmtpConnectionPool;
+import io.github.hogwartsschoolofmagic.user.service.LastVisitService;
+import io.github.hogwartsschoolofmagic.user.service.MailOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Configuration java class for enabling periodic background tasks. The tasks run on the pool
+ * configured by "spring.task.scheduling.pool.size", so a slow mail outbox dispatch does not delay
+ * the other tasks. The intervals of the tasks are taken from the bound settings, so they accept
+ * any duration format supported by the settings, for example 10s.
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.13
+ */
+@RequiredArgsConstructor
+@Configuration
+@EnableScheduling
+public class SchedulingConfig implements SchedulingConfigurer {
+
+  private final LastVisitService lastVisitService;
+  private final LastVisitProperties lastVisitProperties;
+  private final MailOutboxService mailOutboxService;
+  private final MailOutboxProperties mailOutboxProperties;
+  private final SmtpConnectionPool smtpConnectionPool;
+  private final SmtpPoolProperties smtpPoolProperties;
+
+  @Override
+  public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+    taskRegistrar.addFixedDelayTask(lastVisitService::flush,
+        lastVisitProperties.getMaxStaleness().toMillis());
+    taskRegistrar.addFixedDelayTask(mailOutboxService::dispatch,
+        mailOutboxProperties.getPollInterval().toMillis());
+    taskRegistrar.addFixedDelayTask(smtpConnectionPool::evictIdle,
+        smtpPoolProperties.getIdleTimeout().toMillis());
+  }
+}
\ No newline at end of file
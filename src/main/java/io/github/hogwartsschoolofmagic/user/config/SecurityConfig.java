@@ -18,7 +18,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
@@ -39,6 +38,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
   private final Oauth2AuthenticationSuccessHandler oauth2AuthenticationSuccessHandler;
   private final Oauth2AuthenticationFailureHandler oauth2AuthenticationFailureHandler;
   private final Oauth2LogoutSuccessHandler oauth2LogoutSuccessHandler;
+  private final PasswordEncoder passwordEncoder;
 
   /**
    * Method for configuring authentication to use a custom UserDetailService along with password
@@ -51,7 +51,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
       throws Exception {
     authenticationManagerBuilder
         .userDetailsService(customUserDetailsService)
-        .passwordEncoder(passwordEncoder());
+        .passwordEncoder(passwordEncoder);
   }
 
   /**
@@ -66,7 +66,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
         .cors()
         .and()
         .sessionManagement()
-        .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)
+        .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
         .and()
         .csrf().disable()
         .formLogin().disable()
@@ -117,9 +117,4 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
   public HttpCookieOauth2AuthorizationRequestRepository cookieAuthorizationRequestRepository() {
     return new HttpCookieOauth2AuthorizationRequestRepository();
   }
-
-  @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
-  }
 }
\ No newline at end of file
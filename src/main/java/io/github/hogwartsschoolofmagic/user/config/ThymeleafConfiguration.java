@@ -1,6 +1,6 @@
 package io.github.hogwartsschoolofmagic.user.config;
 
-import io.github.hogwartsschoolofmagic.user.service.impl.MailServiceImpl;
+import io.github.hogwartsschoolofmagic.user.mail.ConfirmationEmailRenderer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.thymeleaf.spring5.SpringTemplateEngine;
@@ -18,7 +18,7 @@ public class ThymeleafConfiguration {
 
   /**
    * <p> Getting a template engine to be used to load and populate templates. </p>
-   * Used for example here: {@link MailServiceImpl}.
+   * Used for example here: {@link ConfirmationEmailRenderer}.
    *
    * @return end object - SpringTemplateEngine.
    */
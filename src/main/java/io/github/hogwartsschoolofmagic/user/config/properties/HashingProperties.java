@@ -0,0 +1,82 @@
+package io.github.hogwartsschoolofmagic.user.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * <p> Java class containing settings for the pool that hashes and checks user passwords. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.11
+ */
+@Getter
+@Setter
+@ConfigurationProperties("app.hashing")
+public class HashingProperties {
+
+  /**
+   * Private field that stores the number of threads hashing passwords at the same time.
+   */
+  private int poolSize = Runtime.getRuntime().availableProcessors();
+
+  /**
+   * Private field that stores the number of hashing tasks that can wait for a free thread.
+   */
+  private int queueCapacity = 64;
+
+  /**
+   * Private field that stores how long a request waits for its password to be hashed.
+   */
+  private Duration maxWait = Duration.ofSeconds(2);
+
+  /**
+   * Private field that stores the BCrypt cost for new password hashes.
+   */
+  private int bcryptStrength = 10;
+
+  /**
+   * Private field that stores the settings for choosing the BCrypt cost at startup.
+   */
+  private final Calibration calibration = new Calibration();
+
+  /**
+   * Data for choosing the BCrypt cost for the current machine.
+   */
+  @Getter
+  @Setter
+  public static class Calibration {
+
+    /**
+     * Private field that stores what to do with the calculated cost.
+     */
+    private CalibrationMode mode = CalibrationMode.OFF;
+
+    /**
+     * Private field that stores the target duration of hashing one password.
+     */
+    private Duration target = Duration.ofMillis(250);
+  }
+
+  /**
+   * Modes for choosing the BCrypt cost at startup.
+   */
+  public enum CalibrationMode {
+
+    /**
+     * The cost from the settings is used without measurements.
+     */
+    OFF,
+
+    /**
+     * The calculated cost is only written to the log.
+     */
+    REPORT,
+
+    /**
+     * The calculated cost is used instead of the cost from the settings.
+     */
+    APPLY
+  }
+}
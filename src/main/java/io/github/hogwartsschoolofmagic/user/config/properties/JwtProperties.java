@@ -42,6 +42,35 @@ public class JwtProperties {
      * Private field that stores the duration of the token.
      */
     private long tokenExpirationMsec;
+
+    /**
+     * Private field that stores whether the user data and rights are written into the token, so
+     * that the user does not have to be loaded from the database on each request.
+     */
+    private boolean stateless;
+
+    /**
+     * Private field that stores the settings of the verified token cache.
+     */
+    private final Cache cache = new Cache();
+  }
+
+  /**
+   * Data for caching already verified tokens.
+   */
+  @Getter
+  @Setter
+  public static class Cache {
+
+    /**
+     * Private field that stores whether verified tokens are cached.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Private field that stores the maximum number of cached tokens.
+     */
+    private long maximumSize = 10_000;
   }
 
   /**
@@ -0,0 +1,29 @@
+package io.github.hogwartsschoolofmagic.user.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * <p> Java class containing settings for writing the time of the last user visit. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.13
+ */
+@Getter
+@Setter
+@ConfigurationProperties("app.last-visit")
+public class LastVisitProperties {
+
+  /**
+   * Private field that stores the maximum time a visit waits in memory before being written to
+   * the database, for example 10s.
+   */
+  private Duration maxStaleness = Duration.ofSeconds(10);
+
+  /**
+   * Private field that stores the maximum number of users updated by one statement batch.
+   */
+  private int batchSize = 500;
+}
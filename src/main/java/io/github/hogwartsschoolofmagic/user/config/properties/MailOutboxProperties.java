@@ -0,0 +1,43 @@
+package io.github.hogwartsschoolofmagic.user.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * <p> Java class containing settings for sending letters saved in the outbox. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.15
+ */
+@Getter
+@Setter
+@ConfigurationProperties("app.mail-outbox")
+public class MailOutboxProperties {
+
+  /**
+   * Private field that stores the interval between outbox checks, for example 5s.
+   */
+  private Duration pollInterval = Duration.ofSeconds(5);
+
+  /**
+   * Private field that stores the number of letters claimed and sent at once.
+   */
+  private int batchSize = 50;
+
+  /**
+   * Private field that stores the number of attempts after which a letter is no longer sent.
+   */
+  private int maxAttempts = 8;
+
+  /**
+   * Private field that stores the delay before the second attempt, doubled for each next one.
+   */
+  private Duration initialBackoff = Duration.ofSeconds(30);
+
+  /**
+   * Private field that stores the maximum delay between attempts.
+   */
+  private Duration maxBackoff = Duration.ofHours(1);
+}
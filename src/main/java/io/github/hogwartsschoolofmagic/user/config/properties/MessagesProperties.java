@@ -0,0 +1,29 @@
+package io.github.hogwartsschoolofmagic.user.config.properties;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * <p> Java class containing settings for loading localized messages. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.19
+ */
+@Getter
+@Setter
+@ConfigurationProperties("app.messages")
+public class MessagesProperties {
+
+  /**
+   * Private field that stores the location of the message files without the language suffix, for
+   * example "classpath:messages/labels" or "file:/etc/user-service/labels".
+   */
+  private String basename = "classpath:messages/labels";
+
+  /**
+   * Private field that stores the languages whose message files are loaded at startup.
+   */
+  private List<String> languages = List.of("en", "ru");
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package io.github.hogwartsschoolofmagic.user.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * <p> Java class containing the rules for the password entered by the user during registration.
+ * </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.20
+ */
+@Getter
+@Setter
+@ConfigurationProperties("app.password-policy")
+public class PasswordPolicyProperties {
+
+  /**
+   * Private field that stores the minimum password length.
+   */
+  private int minLength = 8;
+
+  /**
+   * Private field that stores the maximum password length.
+   */
+  private int maxLength = 16;
+
+  /**
+   * Private field that stores the minimum number of uppercase characters.
+   */
+  private int minUppercase = 1;
+
+  /**
+   * Private field that stores the minimum number of lowercase characters.
+   */
+  private int minLowercase = 1;
+
+  /**
+   * Private field that stores the minimum number of digits.
+   */
+  private int minDigits = 1;
+
+  /**
+   * Private field that stores the minimum number of special characters.
+   */
+  private int minSpecial = 1;
+
+  /**
+   * Private field that stores the minimum number of letters.
+   */
+  private int minAlphabetical = 1;
+
+  /**
+   * Private field that stores whether the password may contain whitespace.
+   */
+  private boolean whitespaceAllowed = false;
+
+  /**
+   * Private field that stores the location of the file with password validation messages.
+   */
+  private String messages = "classpath:password.properties";
+
+  /**
+   * Private field that stores the path to the file of the breached password filter. The check is
+   * disabled if the path is not set.
+   */
+  private String breachedFilter;
+}
\ No newline at end of file
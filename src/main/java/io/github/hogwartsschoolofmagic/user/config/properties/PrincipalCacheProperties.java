@@ -0,0 +1,33 @@
+package io.github.hogwartsschoolofmagic.user.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * <p> Java class containing settings for caching authenticated users. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.8
+ */
+@Getter
+@Setter
+@ConfigurationProperties("app.principal-cache")
+public class PrincipalCacheProperties {
+
+  /**
+   * Private field that stores whether authenticated users are cached.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Private field that stores the maximum number of cached users.
+   */
+  private long maximumSize = 10_000;
+
+  /**
+   * Private field that stores how long a cached user is kept after loading.
+   */
+  private Duration timeToLive = Duration.ofMinutes(5);
+}
@@ -0,0 +1,39 @@
+package io.github.hogwartsschoolofmagic.user.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * <p> Java class containing settings for the pool of connections to the mail server. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.16
+ */
+@Getter
+@Setter
+@ConfigurationProperties("app.mail-pool")
+public class SmtpPoolProperties {
+
+  /**
+   * Private field that stores the maximum number of open connections.
+   */
+  private int maxConnections = 4;
+
+  /**
+   * Private field that stores the number of letters after which a connection is reopened.
+   */
+  private int maxMessagesPerConnection = 100;
+
+  /**
+   * Private field that stores how long an unused connection stays open, for example 30s. It is
+   * also the interval of closing such connections.
+   */
+  private Duration idleTimeout = Duration.ofSeconds(30);
+
+  /**
+   * Private field that stores how long to wait for a free connection.
+   */
+  private Duration borrowTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,22 @@
+package io.github.hogwartsschoolofmagic.user.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * <p> Java class containing settings for the export of users. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.26
+ */
+@Getter
+@Setter
+@ConfigurationProperties("app.user-export")
+public class UserExportProperties {
+
+  /**
+   * Private field that stores the number of users read from the database cursor at a time.
+   */
+  private int fetchSize = 1000;
+}
\ No newline at end of file
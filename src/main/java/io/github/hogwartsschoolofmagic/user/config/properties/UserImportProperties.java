@@ -0,0 +1,52 @@
+package io.github.hogwartsschoolofmagic.user.config.properties;
+
+import java.nio.file.Path;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * <p> Java class containing settings for the bulk import of users. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.25
+ */
+@Getter
+@Setter
+@ConfigurationProperties("app.user-import")
+public class UserImportProperties {
+
+  /**
+   * Private field that stores the number of users saved in one transaction.
+   */
+  private int batchSize = 1000;
+
+  /**
+   * Private field that stores the number of passwords of imported users hashed at the same time.
+   * Hashing itself runs on the shared hashing pool, where logins are served first.
+   */
+  private int hashingThreads = Runtime.getRuntime().availableProcessors();
+
+  /**
+   * Private field that stores the number of imports that run at the same time. The other
+   * imports wait in a queue with their files saved to the temporary directory.
+   */
+  private int concurrentImports = 1;
+
+  /**
+   * Private field that stores the maximum number of row errors kept in the import report.
+   */
+  private int maxReportedErrors = 1000;
+
+  /**
+   * Private field that stores the number of finished imports whose reports are kept.
+   */
+  private int retainedImports = 20;
+
+  /**
+   * Private field that stores the directory for the received files waiting for their import.
+   * The files hold the passwords in plain text, so the directory must be used by the import of
+   * this instance alone: its files are deleted when the application starts and stops.
+   */
+  private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "user-import");
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package io.github.hogwartsschoolofmagic.user.controller.controllers.admin;
+
+import io.github.hogwartsschoolofmagic.user.controller.common.dto.ApiResponse;
+import io.github.hogwartsschoolofmagic.user.event.publisher.RolesChangedPublisher;
+import io.github.hogwartsschoolofmagic.user.service.MessageService;
+import javax.annotation.security.RolesAllowed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for receiving requests from the administrator related to roles and privileges.
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.9
+ */
+@RequiredArgsConstructor
+@RolesAllowed("ROLE_ADMIN")
+@RestController
+@RequestMapping("admin/roles")
+public class RoleController {
+
+  private final RolesChangedPublisher rolesChangedPublisher;
+  private final MessageService msgService;
+
+  /**
+   * Rest request method called by the administrator after changing roles or privileges in the
+   * database, to re-read them on all service instances.
+   *
+   * @return {@link ApiResponse} with information about the reload.
+   */
+  @PostMapping("/reload")
+  public ApiResponse reload() {
+    rolesChangedPublisher.publish();
+    return new ApiResponse(msgService.getMessage("role.registry.reloaded"));
+  }
+}
@@ -0,0 +1,73 @@
+package io.github.hogwartsschoolofmagic.user.controller.controllers.admin;
+
+import io.github.hogwartsschoolofmagic.user.enumeration.AuthProvider;
+import io.github.hogwartsschoolofmagic.user.enumeration.UserFileFormat;
+import io.github.hogwartsschoolofmagic.user.persistence.model.base.BaseStatus;
+import io.github.hogwartsschoolofmagic.user.persistence.model.export.UserExportFilter;
+import io.github.hogwartsschoolofmagic.user.service.UserExportService;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import javax.annotation.security.RolesAllowed;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for receiving requests from the administrator related to the export of users.
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.26
+ */
+@RequiredArgsConstructor
+@RolesAllowed("ROLE_ADMIN")
+@RestController
+@RequestMapping("admin/users/export")
+public class UserExportController {
+
+  private final UserExportService userExportService;
+
+  /**
+   * Rest request method for exporting users. The users are written straight to the response body
+   * in the order of their ids; to resume an interrupted export, pass the id of the last received
+   * user as {@code after}.
+   *
+   * @param format       file format.
+   * @param status       status of the users.
+   * @param authProvider authentication provider of the users.
+   * @param createdFrom  lower bound (inclusive) of the creation date.
+   * @param createdTo    upper bound (exclusive) of the creation date.
+   * @param after        id of the last user received before.
+   * @param roles        whether to export the names of the user roles.
+   * @param settings     whether to export the user settings.
+   * @param response     response to write the file to.
+   * @throws IOException the file could not be written.
+   */
+  @GetMapping
+  public void exportUsers(
+      @RequestParam(name = "format", defaultValue = "NDJSON") UserFileFormat format,
+      @RequestParam(name = "status", required = false) BaseStatus status,
+      @RequestParam(name = "provider", required = false) AuthProvider authProvider,
+      @RequestParam(name = "createdFrom", required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+      @RequestParam(name = "createdTo", required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+      @RequestParam(name = "after", required = false) Long after,
+      @RequestParam(name = "roles", defaultValue = "false") boolean roles,
+      @RequestParam(name = "settings", defaultValue = "false") boolean settings,
+      HttpServletResponse response) throws IOException {
+    var fileName = "users." + format.name().toLowerCase();
+    response.setContentType(format.getMediaType().toString());
+    response.setCharacterEncoding("UTF-8");
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+        ContentDisposition.attachment().filename(fileName).build().toString());
+    var filter = new UserExportFilter(status, authProvider, createdFrom, createdTo, after, roles,
+        settings);
+    userExportService.exportUsers(filter, format, response.getOutputStream());
+  }
+}
\ No newline at end of file
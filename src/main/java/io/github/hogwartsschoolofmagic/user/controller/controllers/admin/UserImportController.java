@@ -0,0 +1,88 @@
+package io.github.hogwartsschoolofmagic.user.controller.controllers.admin;
+
+import io.github.hogwartsschoolofmagic.user.controller.common.dto.ApiResponse;
+import io.github.hogwartsschoolofmagic.user.enumeration.UserFileFormat;
+import io.github.hogwartsschoolofmagic.user.exception.resource.ResourceNotFoundException;
+import io.github.hogwartsschoolofmagic.user.service.MessageService;
+import io.github.hogwartsschoolofmagic.user.service.UserImportService;
+import java.io.IOException;
+import java.util.UUID;
+import javax.annotation.security.RolesAllowed;
+import javax.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Controller for receiving requests from the administrator related to the bulk import of users.
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.25
+ */
+@RequiredArgsConstructor
+@RolesAllowed("ROLE_ADMIN")
+@RestController
+@RequestMapping("admin/users/imports")
+public class UserImportController {
+
+  private final UserImportService userImportService;
+  private final MessageService msgService;
+
+  /**
+   * Rest request method for importing users from a CSV file with the header "email,name,password"
+   * or from a file with one JSON object per line. The body is saved to a temporary file and the
+   * import runs in the background; the response points to the progress of the import.
+   *
+   * @param contentType type of the file.
+   * @param request     request with the file in the body.
+   * @return {@link ApiResponse} with the report of the queued import, with the status 202 and the
+   *     link to the progress of the import in the "Location" header.
+   * @throws IOException                        the body of the request could not be read.
+   * @throws HttpMediaTypeNotSupportedException the type of the file is not supported.
+   */
+  @PostMapping(consumes = {"text/csv", "application/x-ndjson"})
+  public ResponseEntity<ApiResponse> importUsers(
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, HttpServletRequest request)
+      throws IOException, HttpMediaTypeNotSupportedException {
+    var format = UserFileFormat.of(contentType)
+        .orElseThrow(() -> new HttpMediaTypeNotSupportedException(contentType, null));
+    var report = userImportService.submitImport(request.getInputStream(), format);
+    var location = ServletUriComponentsBuilder.fromCurrentRequestUri()
+        .path("/{id}")
+        .buildAndExpand(report.id())
+        .toUri();
+    return ResponseEntity.accepted().location(location).body(new ApiResponse(report));
+  }
+
+  /**
+   * Rest request method for getting the progress of the running and recently finished imports.
+   *
+   * @return {@link ApiResponse} with the import reports.
+   */
+  @GetMapping
+  public ApiResponse getImports() {
+    return new ApiResponse(userImportService.getImports());
+  }
+
+  /**
+   * Rest request method for getting the progress of an import.
+   *
+   * @param id import id.
+   * @return {@link ApiResponse} with the import report.
+   */
+  @GetMapping("/{id}")
+  public ApiResponse getImport(@PathVariable("id") UUID id) {
+    return new ApiResponse(userImportService.getImport(id)
+        .orElseThrow(() -> new ResourceNotFoundException(msgService.getMessageWithArgs(
+            "user.import.error.not.found", new Object[] {id}))));
+  }
+}
\ No newline at end of file
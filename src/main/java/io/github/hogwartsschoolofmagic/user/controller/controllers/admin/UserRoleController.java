@@ -0,0 +1,44 @@
+package io.github.hogwartsschoolofmagic.user.controller.controllers.admin;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.github.hogwartsschoolofmagic.user.enumeration.Roles;
+import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
+import io.github.hogwartsschoolofmagic.user.persistence.model.views.Views;
+import io.github.hogwartsschoolofmagic.user.service.UserRoleService;
+import java.util.Set;
+import javax.annotation.security.RolesAllowed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for receiving requests from the administrator related to the roles of users.
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.6
+ */
+@RequiredArgsConstructor
+@RolesAllowed("ROLE_ADMIN")
+@RestController
+@RequestMapping("admin/users/{id}/roles")
+public class UserRoleController {
+
+  private final UserRoleService userRoleService;
+
+  /**
+   * Rest request method for replacing the roles of a user. The tokens issued to the user before
+   * the change are no longer accepted.
+   *
+   * @param id    user ID.
+   * @param roles new roles of the user.
+   * @return user with the new roles.
+   */
+  @PutMapping
+  @JsonView(Views.UserFullData.class)
+  public User setRoles(@PathVariable("id") Long id, @RequestBody Set<Roles> roles) {
+    return userRoleService.setRoles(id, roles);
+  }
+}
\ No newline at end of file
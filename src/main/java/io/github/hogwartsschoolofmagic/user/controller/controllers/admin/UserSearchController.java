@@ -0,0 +1,41 @@
+package io.github.hogwartsschoolofmagic.user.controller.controllers.admin;
+
+import io.github.hogwartsschoolofmagic.user.controller.common.dto.ApiResponse;
+import io.github.hogwartsschoolofmagic.user.service.UserSearchService;
+import javax.annotation.security.RolesAllowed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for receiving requests from the administrator related to searching users.
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.27
+ */
+@RequiredArgsConstructor
+@RolesAllowed("ROLE_ADMIN")
+@RestController
+@RequestMapping("admin/users")
+public class UserSearchController {
+
+  private final UserSearchService userSearchService;
+
+  /**
+   * Rest request method for searching users by a part of the full name, username or email. To get
+   * the next page, pass the {@code next} value of the previous response as {@code cursor}.
+   *
+   * @param query  substring to search for, all users if empty.
+   * @param cursor position of the page from the previous response.
+   * @param size   number of users on the page.
+   * @return {@link ApiResponse} with the page of found users.
+   */
+  @GetMapping
+  public ApiResponse searchUsers(@RequestParam(name = "q", required = false) String query,
+                                 @RequestParam(name = "cursor", required = false) String cursor,
+                                 @RequestParam(name = "size", defaultValue = "20") int size) {
+    return new ApiResponse(userSearchService.searchUsers(query, cursor, size));
+  }
+}
\ No newline at end of file
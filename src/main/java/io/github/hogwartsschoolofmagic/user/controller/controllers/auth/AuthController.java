@@ -4,19 +4,17 @@ import com.fasterxml.jackson.annotation.JsonView;
 import io.github.hogwartsschoolofmagic.user.controller.common.dto.ApiResponse;
 import io.github.hogwartsschoolofmagic.user.controller.controllers.auth.dto.LoginDto;
 import io.github.hogwartsschoolofmagic.user.controller.controllers.auth.dto.RegisterDto;
-import io.github.hogwartsschoolofmagic.user.event.OnRegistrationCompleteEvent;
 import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
 import io.github.hogwartsschoolofmagic.user.persistence.model.views.Views;
 import io.github.hogwartsschoolofmagic.user.security.CurrentUser;
 import io.github.hogwartsschoolofmagic.user.security.UserPrincipal;
 import io.github.hogwartsschoolofmagic.user.service.AuthService;
-import io.github.hogwartsschoolofmagic.user.service.MailService;
+import io.github.hogwartsschoolofmagic.user.service.MailOutboxService;
 import io.github.hogwartsschoolofmagic.user.service.MessageService;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PostAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -40,8 +38,7 @@ public class AuthController {
 
   private final AuthService authService;
   private final MessageService msgService;
-  private final MailService mailService;
-  private final ApplicationEventPublisher eventPublisher;
+  private final MailOutboxService mailOutboxService;
 
   /**
    * Rest request method called from the client to retrieve information about the authorized user
@@ -82,10 +79,7 @@ public class AuthController {
    */
   @PostMapping("/register")
   public ApiResponse registerUser(@Valid @RequestBody RegisterDto regReq) {
-    var registered = authService.registerNewUserAccount(
-        regReq.email(), regReq.name(), regReq.password()
-    );
-    eventPublisher.publishEvent(new OnRegistrationCompleteEvent(registered, ""));
+    authService.registerNewUserAccount(regReq.email(), regReq.name(), regReq.password());
 
     return new ApiResponse(msgService.getMessage(
         "registration.completed.successfully"
@@ -125,7 +119,8 @@ public class AuthController {
     var newToken = authService
         .generateNewVerificationToken(existingToken);
     var user = newToken.getUser();
-    mailService.sendVerifiedMessage(user.getEmail(), newToken.getValue());
+    mailOutboxService.enqueueVerifiedMessage(user.getEmail(), newToken.getValue(),
+        msgService.getLocale());
     return new ApiResponse(msgService.getMessage(
         "registration.confirmation.getting.new.token"
     ));
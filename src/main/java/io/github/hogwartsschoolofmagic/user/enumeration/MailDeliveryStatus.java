@@ -0,0 +1,24 @@
+package io.github.hogwartsschoolofmagic.user.enumeration;
+
+/**
+ * <p> Enumeration class for delivery statuses of letters waiting to be sent. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.15
+ */
+public enum MailDeliveryStatus {
+  /**
+   * The letter is waiting to be sent, including after an unsuccessful attempt.
+   */
+  PENDING,
+
+  /**
+   * The letter has been sent.
+   */
+  SENT,
+
+  /**
+   * The letter could not be sent in the allowed number of attempts and is no longer sent.
+   */
+  DEAD
+}
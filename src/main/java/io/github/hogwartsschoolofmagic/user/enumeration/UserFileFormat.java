@@ -0,0 +1,44 @@
+package io.github.hogwartsschoolofmagic.user.enumeration;
+
+import java.util.Arrays;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+/**
+ * <p> Enumeration class for formats of files with imported or exported users. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.25
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UserFileFormat {
+  /**
+   * Comma-separated values with a header naming the columns.
+   */
+  CSV(MediaType.parseMediaType("text/csv")),
+
+  /**
+   * One JSON object per line.
+   */
+  NDJSON(MediaType.parseMediaType("application/x-ndjson"));
+
+  /**
+   * Media type of the file in this format.
+   */
+  private final MediaType mediaType;
+
+  /**
+   * Method for getting the format by the media type of the file.
+   *
+   * @param mediaType media type of the file.
+   * @return optional with the format, empty if the media type is not supported.
+   */
+  public static Optional<UserFileFormat> of(MediaType mediaType) {
+    return Arrays.stream(values())
+        .filter(format -> format.mediaType.isCompatibleWith(mediaType))
+        .findFirst();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package io.github.hogwartsschoolofmagic.user.enumeration;
+
+/**
+ * <p> Enumeration class for statuses of user imports. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.25
+ */
+public enum UserImportStatus {
+  /**
+   * The file has been received and the import waits for a free import thread.
+   */
+  QUEUED,
+
+  /**
+   * The file is being read and the users are being saved.
+   */
+  RUNNING,
+
+  /**
+   * The whole file has been read. Rows with errors are listed in the report.
+   */
+  COMPLETED,
+
+  /**
+   * The import was stopped by an error that is not related to a single row.
+   */
+  FAILED
+}
\ No newline at end of file
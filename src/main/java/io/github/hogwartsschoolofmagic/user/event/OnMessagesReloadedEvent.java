@@ -0,0 +1,26 @@
+package io.github.hogwartsschoolofmagic.user.event;
+
+import io.github.hogwartsschoolofmagic.user.message.PrecompiledMessageSource;
+import java.io.Serial;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * <p> An event-class that is triggered after the localized messages are reloaded. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.19
+ */
+public class OnMessagesReloadedEvent extends ApplicationEvent {
+
+  @Serial
+  private static final long serialVersionUID = 4215836087742210543L;
+
+  /**
+   * Create a new {@code ApplicationEvent}.
+   *
+   * @param source message source that has reloaded the messages.
+   */
+  public OnMessagesReloadedEvent(PrecompiledMessageSource source) {
+    super(source);
+  }
+}
\ No newline at end of file
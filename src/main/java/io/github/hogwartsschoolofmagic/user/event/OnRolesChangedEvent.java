@@ -0,0 +1,39 @@
+package io.github.hogwartsschoolofmagic.user.event;
+
+import io.github.hogwartsschoolofmagic.user.event.listener.RolesChangedListener;
+import java.io.Serial;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+/**
+ * <p> An event-class that is sent to all service instances over the Spring Cloud Bus after the
+ * roles or their privileges have changed in the database. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.9
+ */
+public class OnRolesChangedEvent extends RemoteApplicationEvent {
+
+  @Serial
+  private static final long serialVersionUID = -6512093415238120597L;
+
+  /**
+   * Constructor used when deserializing the event received from the bus.
+   */
+  @SuppressWarnings("unused")
+  private OnRolesChangedEvent() {
+    super();
+  }
+
+  /**
+   * Create a new event.
+   *
+   * @param source        the object on which the event initially occurred.
+   * @param originService bus id of the sending service instance.
+   * @param destination   service instances that should receive the event.
+   * @see RolesChangedListener
+   */
+  public OnRolesChangedEvent(Object source, String originService, Destination destination) {
+    super(source, originService, destination);
+  }
+}
@@ -0,0 +1,62 @@
+package io.github.hogwartsschoolofmagic.user.event;
+
+import io.github.hogwartsschoolofmagic.user.event.listener.UserChangedListener;
+import java.io.Serial;
+import lombok.Getter;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+/**
+ * <p> An event-class that is sent to all service instances over the Spring Cloud Bus after the
+ * data, roles or privileges of a user have changed. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.8
+ */
+@Getter
+public class OnUserChangedEvent extends RemoteApplicationEvent {
+
+  @Serial
+  private static final long serialVersionUID = 2817066253462035394L;
+
+  /**
+   * Private field that stores the id of the changed user.
+   */
+  private long userId;
+
+  /**
+   * Private field that stores the version of the user's rights after the change.
+   */
+  private int authorizationVersion;
+
+  /**
+   * Private field that stores the time the event was sent, in milliseconds since the epoch.
+   */
+  private long sentAt;
+
+  /**
+   * Constructor used when deserializing the event received from the bus.
+   */
+  @SuppressWarnings("unused")
+  private OnUserChangedEvent() {
+    super();
+  }
+
+  /**
+   * Create a new event.
+   *
+   * @param source               the object on which the event initially occurred.
+   * @param originService        bus id of the sending service instance.
+   * @param destination          service instances that should receive the event.
+   * @param userId               id of the changed user.
+   * @param authorizationVersion version of the user's rights after the change.
+   * @see UserChangedListener
+   */
+  public OnUserChangedEvent(Object source, String originService, Destination destination,
+                            long userId, int authorizationVersion) {
+    super(source, originService, destination);
+    this.userId = userId;
+    this.authorizationVersion = authorizationVersion;
+    this.sentAt = System.currentTimeMillis();
+  }
+}
@@ -2,7 +2,8 @@ package io.github.hogwartsschoolofmagic.user.event.listener;
 
 import io.github.hogwartsschoolofmagic.user.event.OnRegistrationCompleteEvent;
 import io.github.hogwartsschoolofmagic.user.service.AuthService;
-import io.github.hogwartsschoolofmagic.user.service.MailService;
+import io.github.hogwartsschoolofmagic.user.service.MailOutboxService;
+import io.github.hogwartsschoolofmagic.user.service.MessageService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationListener;
 import org.springframework.lang.NonNull;
@@ -20,7 +21,8 @@ import org.springframework.stereotype.Component;
 public class RegistrationListener implements ApplicationListener<OnRegistrationCompleteEvent> {
 
   private final AuthService userService;
-  private final MailService mailService;
+  private final MailOutboxService mailOutboxService;
+  private final MessageService messageService;
 
   @Override
   public void onApplicationEvent(@NonNull final OnRegistrationCompleteEvent event) {
@@ -28,7 +30,9 @@ public class RegistrationListener implements ApplicationListener<OnRegistrationC
   }
 
   /**
-   * Method for sending a message with a verification link to the mail.
+   * Method for saving a message with a verification link to the outbox. The event is published
+   * in the registration transaction, so the token and the letter are saved together with the
+   * user, and the letter itself is sent in the background.
    *
    * @param event user data event.
    */
@@ -37,6 +41,6 @@ public class RegistrationListener implements ApplicationListener<OnRegistrationC
     var token = userService.createVerificationTokenForUser(user)
         .getValue();
 
-    mailService.sendVerifiedMessage(user.getEmail(), token);
+    mailOutboxService.enqueueVerifiedMessage(user.getEmail(), token, messageService.getLocale());
   }
 }
\ No newline at end of file
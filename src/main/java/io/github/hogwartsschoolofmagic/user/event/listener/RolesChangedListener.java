@@ -0,0 +1,35 @@
+package io.github.hogwartsschoolofmagic.user.event.listener;
+
+import io.github.hogwartsschoolofmagic.user.event.OnRolesChangedEvent;
+import io.github.hogwartsschoolofmagic.user.security.PrincipalCache;
+import io.github.hogwartsschoolofmagic.user.security.RoleRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.bus.event.RefreshRemoteApplicationEvent;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p> Listener-class that re-reads roles and privileges into the {@link RoleRegistry} after they
+ * have been changed or after the configuration of the service instances has been refreshed over
+ * the bus. The cached users are removed, since their rights may be out of date. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.9
+ */
+@RequiredArgsConstructor
+@Component
+public class RolesChangedListener implements ApplicationListener<RemoteApplicationEvent> {
+
+  private final RoleRegistry roleRegistry;
+  private final PrincipalCache principalCache;
+
+  @Override
+  public void onApplicationEvent(@NonNull final RemoteApplicationEvent event) {
+    if (event instanceof OnRolesChangedEvent || event instanceof RefreshRemoteApplicationEvent) {
+      roleRegistry.reload();
+      principalCache.invalidateAll();
+    }
+  }
+}
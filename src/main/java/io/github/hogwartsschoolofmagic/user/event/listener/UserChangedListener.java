@@ -0,0 +1,58 @@
+package io.github.hogwartsschoolofmagic.user.event.listener;
+
+import io.github.hogwartsschoolofmagic.user.event.OnUserChangedEvent;
+import io.github.hogwartsschoolofmagic.user.security.AuthorizationVersionTracker;
+import io.github.hogwartsschoolofmagic.user.security.PrincipalCache;
+import io.github.hogwartsschoolofmagic.user.security.UserLocaleCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p> Listener-class that removes a changed user from the caches of authenticated users and of
+ * chosen languages and remembers the new version of his rights. Receives events both from this and
+ * from other service instances. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.8
+ */
+@Component
+public class UserChangedListener implements ApplicationListener<OnUserChangedEvent> {
+
+  private final PrincipalCache principalCache;
+  private final AuthorizationVersionTracker authorizationVersionTracker;
+  private final UserLocaleCache userLocaleCache;
+  private final Timer invalidationLag;
+
+  /**
+   * Creating a listener with a metric of the time from sending the event to processing it.
+   *
+   * @param principalCache              cache of authenticated users.
+   * @param authorizationVersionTracker tracker of user rights versions.
+   * @param userLocaleCache             cache of the languages chosen by the users.
+   * @param meterRegistry               registry for publishing metrics.
+   */
+  public UserChangedListener(PrincipalCache principalCache,
+                             AuthorizationVersionTracker authorizationVersionTracker,
+                             UserLocaleCache userLocaleCache,
+                             MeterRegistry meterRegistry) {
+    this.principalCache = principalCache;
+    this.authorizationVersionTracker = authorizationVersionTracker;
+    this.userLocaleCache = userLocaleCache;
+    this.invalidationLag = Timer.builder("user.principal.invalidation.lag")
+        .description("Time from a user change to its eviction from the principal cache")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void onApplicationEvent(@NonNull final OnUserChangedEvent event) {
+    authorizationVersionTracker.record(event.getUserId(), event.getAuthorizationVersion());
+    principalCache.invalidate(event.getUserId());
+    userLocaleCache.invalidate(event.getUserId());
+    invalidationLag.record(
+        Duration.ofMillis(Math.max(0, System.currentTimeMillis() - event.getSentAt())));
+  }
+}
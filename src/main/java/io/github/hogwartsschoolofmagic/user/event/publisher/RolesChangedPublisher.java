@@ -0,0 +1,33 @@
+package io.github.hogwartsschoolofmagic.user.event.publisher;
+
+import io.github.hogwartsschoolofmagic.user.event.OnRolesChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p> Publisher-class for notifying all service instances that roles or their privileges have
+ * changed and must be re-read. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.9
+ */
+@RequiredArgsConstructor
+@Component
+public class RolesChangedPublisher {
+
+  private final ApplicationEventPublisher eventPublisher;
+  private final BusProperties busProperties;
+  private final Destination.Factory destinationFactory;
+
+  /**
+   * Method for publishing a roles change event. The current instance handles it immediately, the
+   * others after receiving it from the bus.
+   */
+  public void publish() {
+    eventPublisher.publishEvent(new OnRolesChangedEvent(this, busProperties.getId(),
+        destinationFactory.getDestination(null)));
+  }
+}
@@ -0,0 +1,50 @@
+package io.github.hogwartsschoolofmagic.user.event.publisher;
+
+import io.github.hogwartsschoolofmagic.user.event.OnUserChangedEvent;
+import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * <p> Publisher-class for notifying all service instances that a user has changed. Must be called
+ * whenever the user data, his roles or the privileges of his roles are changed. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.8
+ */
+@RequiredArgsConstructor
+@Component
+public class UserChangedPublisher {
+
+  private final ApplicationEventPublisher eventPublisher;
+  private final BusProperties busProperties;
+  private final Destination.Factory destinationFactory;
+
+  /**
+   * Method for publishing a user change event. Inside a transaction, the event is sent only after
+   * a successful commit, so other instances do not reload the old data.
+   *
+   * @param user changed user.
+   */
+  public void publish(User user) {
+    var event = new OnUserChangedEvent(this, busProperties.getId(),
+        destinationFactory.getDestination(null), user.getId(), user.getAuthorizationVersion());
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      eventPublisher.publishEvent(event);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        eventPublisher.publishEvent(event);
+      }
+    });
+  }
+}
@@ -0,0 +1,68 @@
+package io.github.hogwartsschoolofmagic.user.exception.auth;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * Exception class for handling a JWT token that failed verification.
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.4
+ */
+@Getter
+public class InvalidTokenException extends AuthenticationException {
+
+  /**
+   * Private field that stores the reason the token was rejected.
+   */
+  private final transient Reason reason;
+
+  public InvalidTokenException(Reason reason, Throwable cause) {
+    super(reason.getDescription(), cause);
+    this.reason = reason;
+  }
+
+  /**
+   * Enumeration of reasons why a token can be rejected.
+   */
+  @Getter
+  @RequiredArgsConstructor
+  public enum Reason {
+
+    /**
+     * The token signature does not match the server secret.
+     */
+    INVALID_SIGNATURE("Invalid JWT signature"),
+
+    /**
+     * The token could not be parsed.
+     */
+    MALFORMED("Invalid JWT token"),
+
+    /**
+     * The token lifetime is over.
+     */
+    EXPIRED("Expired JWT token"),
+
+    /**
+     * The user rights written into the token have changed since it was issued.
+     */
+    REVOKED("Revoked JWT token"),
+
+    /**
+     * The token has a format that the server does not accept.
+     */
+    UNSUPPORTED("Unsupported JWT token"),
+
+    /**
+     * The token string or its claims are empty.
+     */
+    EMPTY("JWT claims string is empty.");
+
+    /**
+     * Human-readable description of the reason.
+     */
+    private final String description;
+  }
+}
@@ -3,6 +3,7 @@ package io.github.hogwartsschoolofmagic.user.exception.handler;
 import io.github.hogwartsschoolofmagic.user.controller.common.dto.ApiResponse;
 import io.github.hogwartsschoolofmagic.user.exception.resource.ResourceAlreadyExistException;
 import io.github.hogwartsschoolofmagic.user.exception.resource.ResourceNotFoundException;
+import io.github.hogwartsschoolofmagic.user.exception.server.ServiceOverloadedException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -96,6 +97,23 @@ public class RestResponseEntityExceptionHandler {
     return getResponseForSingleError(ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
   }
 
+  /**
+   * Exception handle method for handling 503 error - Service Unavailable, when the resources for
+   * processing the request are busy, for example, the pool for hashing passwords.
+   *
+   * @param ex method-related exception.
+   * @return response data error from the server with the time after which to repeat the request.
+   */
+  @ExceptionHandler({ServiceOverloadedException.class})
+  public ResponseEntity<ApiResponse> handleServiceOverloaded(ServiceOverloadedException ex) {
+    logger.warn("503 - Service Unavailable. {}", ex.getMessage());
+    var headers = new HttpHeaders();
+    headers.set(HttpHeaders.RETRY_AFTER,
+        String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())));
+    return new ResponseEntity<>(new ApiResponse(ex.getMessage()), headers,
+        HttpStatus.SERVICE_UNAVAILABLE);
+  }
+
   /**
    * Exception handle method for handling all other server errors - Internal Server Error.
    *
@@ -0,0 +1,25 @@
+package io.github.hogwartsschoolofmagic.user.exception.server;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Exception class for handling 503 error, when the server cannot accept a request because the
+ * resources needed to process it are busy.
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.11
+ */
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+
+  /**
+   * Private field that stores the time after which the client can repeat the request.
+   */
+  private final transient Duration retryAfter;
+
+  public ServiceOverloadedException(String message, Duration retryAfter) {
+    super(message);
+    this.retryAfter = retryAfter;
+  }
+}
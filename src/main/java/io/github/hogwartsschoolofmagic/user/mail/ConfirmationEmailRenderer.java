@@ -0,0 +1,122 @@
+package io.github.hogwartsschoolofmagic.user.mail;
+
+import io.github.hogwartsschoolofmagic.user.event.OnMessagesReloadedEvent;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.MessageSource;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.unbescape.html.HtmlEscape;
+import org.unbescape.uri.UriEscape;
+
+/**
+ * <p> A class for rendering the registration confirmation letter. The template is rendered once
+ * for each language with a placeholder instead of the token, after which only the token of the
+ * recipient is inserted into the already rendered text. The rendered letters are discarded when
+ * the messages are reloaded, which happens on every configuration refresh. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.17
+ */
+@RequiredArgsConstructor
+@Component
+public class ConfirmationEmailRenderer implements ApplicationListener<OnMessagesReloadedEvent> {
+
+  private static final String TEMPLATE_NAME = "email/confirmation-email";
+
+  /**
+   * Placeholder of the token. Consists only of characters that are not changed by escaping in a
+   * link and in the HTML, so it appears in the rendered text as is.
+   */
+  private static final String TOKEN_PLACEHOLDER =
+      "token" + UUID.randomUUID().toString().replace("-", "");
+
+  private final MessageSource messages;
+  private final SpringTemplateEngine thymeleafTemplateEngine;
+  private final Map<Locale, RenderedTemplate> renderedTemplates = new ConcurrentHashMap<>();
+
+  /**
+   * Method for getting the confirmation letter for the recipient.
+   *
+   * @param token  verification token issued to the user to verify email.
+   * @param locale language of the letter.
+   * @return {@link Letter} with the subject and the HTML text.
+   */
+  public Letter render(String token, Locale locale) {
+    var template = renderedTemplates.computeIfAbsent(locale, this::renderTemplate);
+    if (template.suffix() == null) {
+      return new Letter(template.subject(), process(token, locale));
+    }
+
+    // Escaped as Thymeleaf escapes a link parameter in an attribute, so both texts are the same.
+    var escapedToken = HtmlEscape.escapeHtml4Xml(UriEscape.escapeUriQueryParam(token));
+    return new Letter(template.subject(), template.prefix() + escapedToken + template.suffix());
+  }
+
+  /**
+   * Method for discarding the rendered letters, for example, after the messages are reloaded.
+   */
+  public void invalidate() {
+    thymeleafTemplateEngine.clearTemplateCache();
+    renderedTemplates.clear();
+  }
+
+  /**
+   * Discarding the rendered letters after the messages are reloaded.
+   *
+   * @param event reload event.
+   */
+  @Override
+  public void onApplicationEvent(@NonNull OnMessagesReloadedEvent event) {
+    invalidate();
+  }
+
+  private RenderedTemplate renderTemplate(Locale locale) {
+    var subject = messages.getMessage("email.registration.confirmation.subject", null, locale);
+    var html = process(TOKEN_PLACEHOLDER, locale);
+
+    var start = html.indexOf(TOKEN_PLACEHOLDER);
+    if (start < 0 || html.indexOf(TOKEN_PLACEHOLDER, start + 1) >= 0) {
+      // The template does not contain the token exactly once, so it is rendered for each letter.
+      return new RenderedTemplate(subject, null, null);
+    }
+
+    return new RenderedTemplate(subject, html.substring(0, start),
+        html.substring(start + TOKEN_PLACEHOLDER.length()));
+  }
+
+  private String process(String token, Locale locale) {
+    var thymeleafContext = new Context(locale);
+    thymeleafContext.setVariable("text",
+        messages.getMessage("email.registration.confirmation.text", null, locale));
+    thymeleafContext.setVariable("urlName",
+        messages.getMessage("email.registration.confirmation.url.name", null, locale));
+    thymeleafContext.setVariable("token", token);
+    return thymeleafTemplateEngine.process(TEMPLATE_NAME, thymeleafContext);
+  }
+
+  /**
+   * Rendered letter.
+   *
+   * @param subject subject of the letter.
+   * @param html    HTML text of the letter.
+   */
+  public record Letter(String subject, String html) {
+  }
+
+  /**
+   * Letter rendered for one language, split at the place of the token.
+   *
+   * @param subject subject of the letter.
+   * @param prefix  text before the token.
+   * @param suffix  text after the token or null if the letter is rendered for each recipient.
+   */
+  private record RenderedTemplate(String subject, String prefix, String suffix) {
+  }
+}
@@ -0,0 +1,254 @@
+package io.github.hogwartsschoolofmagic.user.mail;
+
+import io.github.hogwartsschoolofmagic.user.config.properties.SmtpPoolProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p> A pool of connections to the mail server. A connection stays authenticated between
+ * letters, so sending a letter does not open a new connection with TLS negotiation and login.
+ * The connection settings are taken from the mail sender configured by Spring Boot. A connection
+ * is reopened after a certain number of letters and closed when it is not used for a long
+ * time. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.16
+ */
+@Slf4j
+@Component
+public class SmtpConnectionPool {
+
+  private static final String METRIC_PREFIX = "user.mail.smtp.connections";
+
+  private final JavaMailSenderImpl mailSender;
+  private final SmtpPoolProperties properties;
+  private final BlockingDeque<PooledConnection> idleConnections = new LinkedBlockingDeque<>();
+  private final Semaphore permits;
+  private final AtomicInteger openConnections = new AtomicInteger();
+  private final AtomicReference<Exception> lastConnectError = new AtomicReference<>();
+  private final Counter opened;
+  private final Counter reused;
+  private final Counter evicted;
+
+  /**
+   * Creating a pool with metrics of opened and reused connections.
+   *
+   * @param mailSender    mail sender with the connection settings.
+   * @param properties    pool settings.
+   * @param meterRegistry registry for publishing metrics.
+   */
+  public SmtpConnectionPool(JavaMailSenderImpl mailSender, SmtpPoolProperties properties,
+                            MeterRegistry meterRegistry) {
+    this.mailSender = mailSender;
+    this.properties = properties;
+    this.permits = new Semaphore(properties.getMaxConnections(), true);
+    this.opened = meterRegistry.counter(METRIC_PREFIX + ".opened");
+    this.reused = meterRegistry.counter(METRIC_PREFIX + ".reused");
+    this.evicted = meterRegistry.counter(METRIC_PREFIX + ".evicted");
+    meterRegistry.gauge(METRIC_PREFIX + ".open", openConnections);
+    meterRegistry.gauge(METRIC_PREFIX + ".idle", idleConnections, BlockingDeque::size);
+  }
+
+  /**
+   * Method for sending letters over one connection of the pool. If the connection breaks, the
+   * remaining letters are sent over a new one; if it cannot be opened, they are reported as not
+   * sent, while the letters already sent are not.
+   *
+   * @param messages letters to send.
+   * @throws MailSendException the letters that were not sent, or no connection could be opened.
+   */
+  public void send(List<MimeMessage> messages) throws MailSendException {
+    if (messages.isEmpty()) {
+      return;
+    }
+
+    var failedMessages = new LinkedHashMap<Object, Exception>();
+    var connection = borrow();
+    try {
+      for (int i = 0; i < messages.size(); i++) {
+        if (!connection.transport().isConnected()) {
+          close(connection);
+          connection = null;
+          try {
+            connection = open();
+          } catch (MailSendException e) {
+            messages.subList(i, messages.size())
+                .forEach(message -> failedMessages.put(message, e));
+            break;
+          }
+        }
+        sendMessage(connection, messages.get(i), failedMessages);
+      }
+    } finally {
+      release(connection);
+    }
+
+    if (!failedMessages.isEmpty()) {
+      throw new MailSendException(failedMessages);
+    }
+  }
+
+  /**
+   * Method for closing the connections that have not been used for longer than allowed.
+   */
+  public void evictIdle() {
+    var deadline = System.nanoTime() - properties.getIdleTimeout().toNanos();
+    for (var connection : idleConnections) {
+      if (connection.lastUsed() < deadline && idleConnections.remove(connection)) {
+        evicted.increment();
+        close(connection);
+      }
+    }
+  }
+
+  /**
+   * Closing all connections when the application stops.
+   */
+  @PreDestroy
+  public void close() {
+    PooledConnection connection;
+    while ((connection = idleConnections.poll()) != null) {
+      close(connection);
+    }
+  }
+
+  private void close(PooledConnection connection) {
+    openConnections.decrementAndGet();
+    try {
+      connection.transport().close();
+    } catch (MessagingException e) {
+      log.debug("Could not close a mail server connection.", e);
+    }
+  }
+
+  /**
+   * Getting the number of currently open connections.
+   *
+   * @return number of open connections.
+   */
+  public int getOpenConnections() {
+    return openConnections.get();
+  }
+
+  /**
+   * Getting the number of open connections that are not in use.
+   *
+   * @return number of idle connections.
+   */
+  public int getIdleConnections() {
+    return idleConnections.size();
+  }
+
+  /**
+   * Getting the error of the last unsuccessful connection to the mail server.
+   *
+   * @return the error or null if the last connection was successful.
+   */
+  public Exception getLastConnectError() {
+    return lastConnectError.get();
+  }
+
+  private void sendMessage(PooledConnection connection, MimeMessage message,
+                           Map<Object, Exception> failedMessages) {
+    try {
+      if (message.getSentDate() == null) {
+        message.setSentDate(new Date());
+      }
+      message.saveChanges();
+      connection.transport().sendMessage(message, message.getAllRecipients());
+      connection.sent().incrementAndGet();
+    } catch (MessagingException e) {
+      failedMessages.put(message, e);
+    }
+  }
+
+  private PooledConnection borrow() throws MailSendException {
+    try {
+      if (!permits.tryAcquire(properties.getBorrowTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+        throw new MailSendException("No free connection to the mail server.");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MailSendException("Interrupted while waiting for a mail server connection.", e);
+    }
+
+    try {
+      PooledConnection connection;
+      while ((connection = idleConnections.pollFirst()) != null) {
+        if (isUsable(connection)) {
+          reused.increment();
+          return connection;
+        }
+        close(connection);
+      }
+      return open();
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  private void release(PooledConnection connection) {
+    try {
+      if (connection != null && isUsable(connection)) {
+        idleConnections.offerFirst(connection.touch());
+      } else if (connection != null) {
+        close(connection);
+      }
+    } finally {
+      permits.release();
+    }
+  }
+
+  private boolean isUsable(PooledConnection connection) {
+    return connection.sent().get() < properties.getMaxMessagesPerConnection()
+        && connection.transport().isConnected();
+  }
+
+  private PooledConnection open() throws MailSendException {
+    try {
+      var transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+      transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(),
+          mailSender.getPassword());
+      openConnections.incrementAndGet();
+      opened.increment();
+      lastConnectError.set(null);
+      return new PooledConnection(transport, new AtomicInteger(), System.nanoTime());
+    } catch (MessagingException e) {
+      lastConnectError.set(e);
+      throw new MailSendException("Could not connect to the mail server.", e);
+    }
+  }
+
+  /**
+   * Open connection to the mail server.
+   *
+   * @param transport connection itself.
+   * @param sent      number of letters sent over the connection.
+   * @param lastUsed  time of the last use in nanoseconds.
+   */
+  private record PooledConnection(Transport transport, AtomicInteger sent, long lastUsed) {
+
+    private PooledConnection touch() {
+      return new PooledConnection(transport, sent, System.nanoTime());
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package io.github.hogwartsschoolofmagic.user.mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p> Health indicator of the pool of connections to the mail server. Letters are sent from the
+ * outbox in the background, so the service stays available when the mail server is not: the
+ * error of the last unsuccessful connection is reported as a detail and does not change the
+ * status. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.16
+ */
+@RequiredArgsConstructor
+@Component
+public class SmtpConnectionPoolHealthIndicator implements HealthIndicator {
+
+  private final SmtpConnectionPool smtpConnectionPool;
+
+  @Override
+  public Health health() {
+    var builder = Health.up()
+        .withDetail("open", smtpConnectionPool.getOpenConnections())
+        .withDetail("idle", smtpConnectionPool.getIdleConnections());
+    var lastConnectError = smtpConnectionPool.getLastConnectError();
+    if (lastConnectError != null) {
+      builder.withDetail("lastConnectError",
+          lastConnectError.getClass().getName() + ": " + lastConnectError.getMessage());
+    }
+    return builder.build();
+  }
+}
@@ -0,0 +1,144 @@
+package io.github.hogwartsschoolofmagic.user.message;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.github.hogwartsschoolofmagic.user.config.properties.MessagesProperties;
+import io.github.hogwartsschoolofmagic.user.event.OnMessagesReloadedEvent;
+import io.github.hogwartsschoolofmagic.user.security.UserLocaleResolver;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.AbstractMessageSource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.lang.NonNull;
+
+/**
+ * <p> Message source that loads all message files at startup and compiles each message into a
+ * {@link MessageFormat} once. Lookups are served from immutable maps for each language, which are
+ * replaced entirely when the configuration is refreshed. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.19
+ */
+@Slf4j
+public class PrecompiledMessageSource extends AbstractMessageSource
+    implements ApplicationListener<RefreshScopeRefreshedEvent>, ApplicationEventPublisherAware {
+
+  private final MessagesProperties properties;
+  private final ResourceLoader resourceLoader = new DefaultResourceLoader();
+  private ApplicationEventPublisher eventPublisher;
+  private volatile Map<String, LanguageMessages> messagesByLanguage = Map.of();
+
+  /**
+   * Constructor for creating a message source with the messages already loaded.
+   *
+   * @param properties settings for loading messages.
+   * @throws IllegalStateException one of the message files could not be read.
+   */
+  public PrecompiledMessageSource(MessagesProperties properties) {
+    this.properties = properties;
+    reload();
+  }
+
+  @Override
+  public void setApplicationEventPublisher(@NonNull ApplicationEventPublisher eventPublisher) {
+    this.eventPublisher = eventPublisher;
+  }
+
+  /**
+   * Method for loading the message files again. The previous messages are served until all the
+   * files are loaded.
+   *
+   * @throws IllegalStateException one of the message files could not be read.
+   */
+  public synchronized void reload() {
+    var loaded = new HashMap<String, LanguageMessages>();
+    for (var language : properties.getLanguages()) {
+      var locale = Locale.forLanguageTag(language);
+      loaded.put(locale.getLanguage(), load(locale));
+    }
+    messagesByLanguage = Map.copyOf(loaded);
+
+    if (eventPublisher != null) {
+      eventPublisher.publishEvent(new OnMessagesReloadedEvent(this));
+    }
+  }
+
+  /**
+   * Reloading the messages after the configuration is refreshed.
+   *
+   * @param event refresh event.
+   */
+  @Override
+  public void onApplicationEvent(@NonNull RefreshScopeRefreshedEvent event) {
+    try {
+      reload();
+    } catch (IllegalStateException e) {
+      log.error("Messages were not reloaded, the previous ones are kept", e);
+    }
+  }
+
+  @Override
+  protected String resolveCodeWithoutArguments(@NonNull String code, @NonNull Locale locale) {
+    var messages = getMessages(locale);
+    return messages == null ? null : messages.texts().get(code);
+  }
+
+  @Override
+  protected MessageFormat resolveCode(@NonNull String code, @NonNull Locale locale) {
+    var messages = getMessages(locale);
+    var format = messages == null ? null : messages.formats().get(code);
+    // The caller formats under a lock on the returned object, a copy keeps that lock uncontended.
+    return format == null ? null : (MessageFormat) format.clone();
+  }
+
+  private LanguageMessages getMessages(Locale locale) {
+    var messages = messagesByLanguage.get(locale.getLanguage());
+    return messages != null
+        ? messages
+        : messagesByLanguage.get(UserLocaleResolver.DEFAULT_LOCALE.getLanguage());
+  }
+
+  private LanguageMessages load(Locale locale) {
+    var location = properties.getBasename() + "_" + locale.getLanguage() + ".properties";
+    var resource = resourceLoader.getResource(location);
+    var file = new Properties();
+    try (var reader = new InputStreamReader(resource.getInputStream(), UTF_8)) {
+      file.load(reader);
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not read messages from " + location, e);
+    }
+
+    var texts = new HashMap<String, String>();
+    var formats = new HashMap<String, MessageFormat>();
+    for (var code : file.stringPropertyNames()) {
+      var text = file.getProperty(code);
+      texts.put(code, text);
+      try {
+        formats.put(code, createMessageFormat(text, locale));
+      } catch (IllegalArgumentException e) {
+        log.warn("Message {} for language {} is not a valid message format", code, locale, e);
+      }
+    }
+    return new LanguageMessages(Map.copyOf(texts), Map.copyOf(formats));
+  }
+
+  /**
+   * Messages of one language.
+   *
+   * @param texts   message texts by code.
+   * @param formats compiled messages by code.
+   */
+  private record LanguageMessages(Map<String, String> texts, Map<String, MessageFormat> formats) {
+  }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package io.github.hogwartsschoolofmagic.user.persistence.dao;
+
+import io.github.hogwartsschoolofmagic.user.enumeration.MailDeliveryStatus;
+import io.github.hogwartsschoolofmagic.user.persistence.model.mail.MailOutboxMessage;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * <p> Repository java class for communicating with the database and working with the letters
+ * waiting to be sent. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.15
+ */
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutboxMessage, Long> {
+
+  /**
+   * Method for locking the letters whose time to be sent has come. Letters already locked by
+   * another service instance are skipped, so the instances send different letters.
+   *
+   * @param now   current time.
+   * @param limit maximum number of letters.
+   * @return list of locked letters.
+   */
+  @Query(value = "SELECT * FROM mail_outbox WHERE delivery_status = 'PENDING' "
+      + "AND next_attempt_date <= :now ORDER BY next_attempt_date LIMIT :limit "
+      + "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+  List<MailOutboxMessage> lockDueMessages(@Param("now") LocalDateTime now,
+                                          @Param("limit") int limit);
+
+  /**
+   * Method for counting the letters with the specified delivery status.
+   *
+   * @param deliveryStatus delivery status.
+   * @return number of letters.
+   */
+  long countByDeliveryStatus(MailDeliveryStatus deliveryStatus);
+}
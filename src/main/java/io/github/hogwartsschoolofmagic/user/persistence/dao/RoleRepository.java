@@ -2,8 +2,11 @@ package io.github.hogwartsschoolofmagic.user.persistence.dao;
 
 import io.github.hogwartsschoolofmagic.user.enumeration.Roles;
 import io.github.hogwartsschoolofmagic.user.persistence.model.user.Role;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -23,4 +26,13 @@ public interface RoleRepository extends JpaRepository<Role, Long> {
    * @return optional with found role.
    */
   Optional<Role> findByValue(Roles value);
+
+  /**
+   * Method for getting all roles together with their privileges in a single query.
+   *
+   * @return list of all roles.
+   */
+  @EntityGraph(attributePaths = "privileges")
+  @Query("select r from Role r")
+  List<Role> findAllWithPrivileges();
 }
\ No newline at end of file
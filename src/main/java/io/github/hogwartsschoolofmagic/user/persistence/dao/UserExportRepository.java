@@ -0,0 +1,26 @@
+package io.github.hogwartsschoolofmagic.user.persistence.dao;
+
+import io.github.hogwartsschoolofmagic.user.persistence.model.export.UserExportFilter;
+import io.github.hogwartsschoolofmagic.user.persistence.model.export.UserExportRow;
+import java.util.function.Consumer;
+
+/**
+ * <p> Repository fragment for exporting users without loading them as entities. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.26
+ */
+public interface UserExportRepository {
+
+  /**
+   * Reading the users matching the filter in the order of their ids. The rows are read through a
+   * server-side cursor, a portion of the given size at a time, and are passed to the consumer one
+   * by one, so memory use does not depend on the number of users. Must be called inside a
+   * transaction, otherwise the driver reads the whole result at once.
+   *
+   * @param filter    export conditions.
+   * @param fetchSize number of rows read from the cursor at a time.
+   * @param consumer  receiver of the rows.
+   */
+  void exportUsers(UserExportFilter filter, int fetchSize, Consumer<UserExportRow> consumer);
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+package io.github.hogwartsschoolofmagic.user.persistence.dao;
+
+import io.github.hogwartsschoolofmagic.user.enumeration.AuthProvider;
+import io.github.hogwartsschoolofmagic.user.persistence.model.base.BaseStatus;
+import io.github.hogwartsschoolofmagic.user.persistence.model.export.UserExportFilter;
+import io.github.hogwartsschoolofmagic.user.persistence.model.export.UserExportRow;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+/**
+ * <p> Implementation of {@link UserExportRepository}. The roles and the settings are collected
+ * into arrays by subqueries of the same statement, so each user is one row of the result. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.26
+ */
+@RequiredArgsConstructor
+public class UserExportRepositoryImpl implements UserExportRepository {
+
+  private static final String SELECT_USERS_SQL = """
+      SELECT u.base_id, u.base_created_date, u.base_status, u.full_name, u.email,
+             u.email_verified, u.auth_provider, u.last_visit_date
+      """;
+
+  private static final String SELECT_ROLES_SQL = """
+      , ARRAY(SELECT r.value FROM user_roles ur JOIN roles r ON r.base_id = ur.role_id
+              WHERE ur.user_id = u.base_id ORDER BY r.value) AS roles
+      """;
+
+  private static final String SELECT_SETTINGS_SQL = """
+      , ARRAY(SELECT s.name FROM user_settings s
+              WHERE s.user_id = u.base_id ORDER BY s.base_id) AS setting_names
+      , ARRAY(SELECT s.value FROM user_settings s
+              WHERE s.user_id = u.base_id ORDER BY s.base_id) AS setting_values
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void exportUsers(UserExportFilter filter, int fetchSize,
+                          Consumer<UserExportRow> consumer) {
+    var sql = new StringBuilder(SELECT_USERS_SQL);
+    if (filter.roles()) {
+      sql.append(SELECT_ROLES_SQL);
+    }
+    if (filter.settings()) {
+      sql.append(SELECT_SETTINGS_SQL);
+    }
+    sql.append("FROM users u WHERE true");
+
+    var params = new ArrayList<>();
+    if (filter.status() != null) {
+      sql.append(" AND u.base_status = ?");
+      params.add(filter.status().name());
+    }
+    if (filter.authProvider() != null) {
+      sql.append(" AND u.auth_provider = ?");
+      params.add(filter.authProvider().name());
+    }
+    if (filter.createdFrom() != null) {
+      sql.append(" AND u.base_created_date >= ?");
+      params.add(filter.createdFrom());
+    }
+    if (filter.createdTo() != null) {
+      sql.append(" AND u.base_created_date < ?");
+      params.add(filter.createdTo());
+    }
+    if (filter.after() != null) {
+      sql.append(" AND u.base_id > ?");
+      params.add(filter.after());
+    }
+    sql.append(" ORDER BY u.base_id");
+
+    jdbcTemplate.query(connection -> {
+      var statement = connection.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY,
+          ResultSet.CONCUR_READ_ONLY);
+      statement.setFetchSize(fetchSize);
+      for (int i = 0; i < params.size(); i++) {
+        statement.setObject(i + 1, params.get(i));
+      }
+      return statement;
+    }, (RowCallbackHandler) rs -> consumer.accept(toRow(rs, filter)));
+  }
+
+  private static UserExportRow toRow(ResultSet rs, UserExportFilter filter) throws SQLException {
+    List<String> roles = null;
+    if (filter.roles()) {
+      roles = List.of(toStrings(rs.getArray("roles")));
+    }
+
+    Map<String, String> settings = null;
+    if (filter.settings()) {
+      var names = toStrings(rs.getArray("setting_names"));
+      var values = toStrings(rs.getArray("setting_values"));
+      settings = new LinkedHashMap<>();
+      for (int i = 0; i < names.length; i++) {
+        settings.put(names[i], values[i]);
+      }
+    }
+
+    return new UserExportRow(
+        rs.getLong("base_id"),
+        rs.getObject("base_created_date", LocalDateTime.class),
+        BaseStatus.valueOf(rs.getString("base_status")),
+        rs.getString("full_name"),
+        rs.getString("email"),
+        rs.getBoolean("email_verified"),
+        AuthProvider.valueOf(rs.getString("auth_provider")),
+        rs.getObject("last_visit_date", LocalDateTime.class),
+        roles,
+        settings);
+  }
+
+  private static String[] toStrings(Array array) throws SQLException {
+    try {
+      return (String[]) array.getArray();
+    } finally {
+      array.free();
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package io.github.hogwartsschoolofmagic.user.persistence.dao;
+
+import io.github.hogwartsschoolofmagic.user.persistence.model.user.Role;
+import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <p> Repository fragment for saving new users together with their roles in a single statement.
+ * </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.23
+ */
+public interface UserRegistrationRepository {
+
+  /**
+   * Method for saving a new user and linking him to his roles, unless a user with the same
+   * canonical email already exists. The check and the insert are done atomically by the database,
+   * so concurrent registrations with the same email save only one user.
+   *
+   * @param user new user with the canonical email and the roles.
+   * @return optional with the saved user, empty if the email is already taken.
+   */
+  Optional<User> insertIfEmailAbsent(User user);
+
+  /**
+   * Method for saving new users and linking them to the same roles, skipping the users whose
+   * canonical email already exists. The ids are taken from the users sequence in blocks before the
+   * insert, so the whole list is saved by two statements.
+   *
+   * @param users new users with the canonical emails.
+   * @param roles roles of all new users.
+   * @return saved users with their ids set, in the order of the given list.
+   */
+  List<User> insertAllIfEmailAbsent(List<User> users, Collection<Role> roles);
+}
\ No newline at end of file
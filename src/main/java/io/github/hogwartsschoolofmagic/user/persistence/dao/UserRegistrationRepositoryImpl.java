@@ -0,0 +1,170 @@
+package io.github.hogwartsschoolofmagic.user.persistence.dao;
+
+import io.github.hogwartsschoolofmagic.user.persistence.model.base.BaseEntity;
+import io.github.hogwartsschoolofmagic.user.persistence.model.base.BaseStatus;
+import io.github.hogwartsschoolofmagic.user.persistence.model.base.TableSequenceIdGenerator;
+import io.github.hogwartsschoolofmagic.user.persistence.model.user.Role;
+import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * <p> Implementation of {@link UserRegistrationRepository}. The users and their links to the
+ * roles are inserted by one statement, which relies on the unique index on the lower case email.
+ * </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.23
+ */
+@RequiredArgsConstructor
+public class UserRegistrationRepositoryImpl implements UserRegistrationRepository {
+
+  private static final String INSERT_USER_SQL = """
+      WITH inserted AS (
+        INSERT INTO users (base_created_date, base_status, full_name, email, email_verified,
+                           auth_provider, auth_provider_id, avatar, password, last_visit_date,
+                           authorization_version)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT ((lower(email))) DO NOTHING
+        RETURNING base_id
+      ), linked AS (
+        INSERT INTO user_roles (user_id, role_id)
+        SELECT inserted.base_id, role_id FROM inserted CROSS JOIN unnest(?) AS role_id
+      )
+      SELECT base_id FROM inserted
+      """;
+
+  private static final String INSERT_USERS_SQL = """
+      WITH inserted AS (
+        INSERT INTO users (base_id, base_created_date, base_status, full_name, email,
+                           email_verified, auth_provider, password, authorization_version)
+        SELECT r.base_id, ?, ?, r.full_name, r.email, r.email_verified, r.auth_provider,
+               r.password, 0
+        FROM unnest(?, ?, ?, ?, ?, ?)
+          AS r(base_id, full_name, email, email_verified, auth_provider, password)
+        ON CONFLICT ((lower(email))) DO NOTHING
+        RETURNING base_id
+      ), linked AS (
+        INSERT INTO user_roles (user_id, role_id)
+        SELECT inserted.base_id, role_id FROM inserted CROSS JOIN unnest(?) AS role_id
+      )
+      SELECT base_id FROM inserted
+      """;
+
+  private static final String ALLOCATE_IDS_SQL =
+      "SELECT nextval(?::regclass) FROM generate_series(1, ?)";
+
+  private static final String USERS_SEQUENCE = "users" + TableSequenceIdGenerator.SEQUENCE_SUFFIX;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public Optional<User> insertIfEmailAbsent(User user) {
+    var created = LocalDateTime.now();
+    var roleIds = user.getRoles().stream()
+        .map(BaseEntity::getId)
+        .toArray(Long[]::new);
+
+    var ids = jdbcTemplate.query(connection -> {
+      var statement = connection.prepareStatement(INSERT_USER_SQL);
+      statement.setObject(1, created);
+      statement.setString(2, BaseStatus.ACTIVE.name());
+      statement.setString(3, user.getFullname());
+      statement.setString(4, user.getEmail());
+      statement.setBoolean(5, user.getEmailVerified());
+      statement.setString(6, user.getAuthProvider().name());
+      statement.setString(7, user.getProviderId());
+      statement.setString(8, user.getAvatar());
+      statement.setString(9, user.getPassword());
+      statement.setObject(10, user.getLastVisit());
+      statement.setInt(11, user.getAuthorizationVersion());
+      statement.setArray(12, connection.createArrayOf("bigint", roleIds));
+      return statement;
+    }, (rs, rowNum) -> rs.getLong(1));
+
+    if (ids.isEmpty()) {
+      return Optional.empty();
+    }
+
+    user.setId(ids.get(0));
+    user.setCreated(created);
+    user.setStatus(BaseStatus.ACTIVE);
+    return Optional.of(user);
+  }
+
+  @Override
+  public List<User> insertAllIfEmailAbsent(List<User> users, Collection<Role> roles) {
+    if (users.isEmpty()) {
+      return List.of();
+    }
+
+    var created = LocalDateTime.now();
+    var ids = allocateIds(users.size());
+    var fullnames = new String[users.size()];
+    var emails = new String[users.size()];
+    var emailsVerified = new Boolean[users.size()];
+    var authProviders = new String[users.size()];
+    var passwords = new String[users.size()];
+    for (int i = 0; i < users.size(); i++) {
+      var user = users.get(i);
+      fullnames[i] = user.getFullname();
+      emails[i] = user.getEmail();
+      emailsVerified[i] = user.getEmailVerified();
+      authProviders[i] = user.getAuthProvider().name();
+      passwords[i] = user.getPassword();
+    }
+    var roleIds = roles.stream()
+        .map(BaseEntity::getId)
+        .toArray(Long[]::new);
+
+    var insertedIds = new HashSet<>(jdbcTemplate.query(connection -> {
+      var statement = connection.prepareStatement(INSERT_USERS_SQL);
+      statement.setObject(1, created);
+      statement.setString(2, BaseStatus.ACTIVE.name());
+      statement.setArray(3, connection.createArrayOf("bigint", ids));
+      statement.setArray(4, connection.createArrayOf("text", fullnames));
+      statement.setArray(5, connection.createArrayOf("text", emails));
+      statement.setArray(6, connection.createArrayOf("boolean", emailsVerified));
+      statement.setArray(7, connection.createArrayOf("text", authProviders));
+      statement.setArray(8, connection.createArrayOf("text", passwords));
+      statement.setArray(9, connection.createArrayOf("bigint", roleIds));
+      return statement;
+    }, (rs, rowNum) -> rs.getLong(1)));
+
+    var inserted = new ArrayList<User>(insertedIds.size());
+    for (int i = 0; i < users.size(); i++) {
+      if (insertedIds.contains(ids[i])) {
+        var user = users.get(i);
+        user.setId(ids[i]);
+        user.setCreated(created);
+        user.setStatus(BaseStatus.ACTIVE);
+        inserted.add(user);
+      }
+    }
+    return inserted;
+  }
+
+  /**
+   * Method for taking ids for new users from the users sequence. Each value of the sequence opens
+   * a block of {@value BaseEntity#ID_ALLOCATION_SIZE} ids, as for the ids given out by Hibernate.
+   *
+   * @param count number of ids.
+   * @return new ids.
+   */
+  private Long[] allocateIds(int count) {
+    var blocks = (count + BaseEntity.ID_ALLOCATION_SIZE - 1) / BaseEntity.ID_ALLOCATION_SIZE;
+    var starts = jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, USERS_SEQUENCE, blocks);
+
+    var ids = new Long[count];
+    for (int i = 0; i < count; i++) {
+      ids[i] = starts.get(i / BaseEntity.ID_ALLOCATION_SIZE) + i % BaseEntity.ID_ALLOCATION_SIZE;
+    }
+    return ids;
+  }
+}
\ No newline at end of file
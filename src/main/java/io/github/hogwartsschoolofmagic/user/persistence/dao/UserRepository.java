@@ -2,19 +2,26 @@ package io.github.hogwartsschoolofmagic.user.persistence.dao;
 
 import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
 /**
  * <p> Repository java class for communicating with the database and working with the user
- * entity. </p>
+ * entity. Lookups by email expect the canonical form of the address from
+ * {@link io.github.hogwartsschoolofmagic.user.util.EmailUtils#canonicalize(String)} and use the
+ * unique index on the lower case email. </p>
  *
  * @author Vladislav [SmithyVL] Kuznetsov.
  * @since 0.1.0
  */
 @Repository("userRepository")
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRegistrationRepository,
+    UserExportRepository, UserSearchRepository {
 
   /**
    * Method for finding a user by his id in the database.
@@ -29,10 +36,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
   /**
    * Method for finding a user by his email in the database.
    *
-   * @param email user's email.
+   * @param email user's canonical email.
    * @return optional with found user.
    */
-  Optional<User> findByEmail(String email);
+  @Query("select u from User u where lower(u.email) = :email")
+  Optional<User> findByEmail(@Param("email") String email);
 
   /**
    * Method for finding a user by his id from an external provider in the database.
@@ -42,11 +50,64 @@ public interface UserRepository extends JpaRepository<User, Long> {
    */
   Optional<User> findByProviderId(String providerId);
 
+  /**
+   * Method for finding a user by his id in the database together with his roles in a single
+   * query. The verification token, which is always loaded with the user, is joined as well, so
+   * it is not read by a second query.
+   *
+   * @param id user ID.
+   * @return optional with found user.
+   */
+  @EntityGraph(attributePaths = {"roles", "verificationToken"})
+  Optional<User> findWithAuthoritiesById(Long id);
+
+  /**
+   * Method for finding a user by his email in the database together with his roles and his
+   * verification token in a single query.
+   *
+   * @param email user's canonical email.
+   * @return optional with found user.
+   */
+  @EntityGraph(attributePaths = {"roles", "verificationToken"})
+  @Query("select u from User u where lower(u.email) = :email")
+  Optional<User> findWithAuthoritiesByEmail(@Param("email") String email);
+
+  /**
+   * Method for finding a user by his id from an external provider in the database together with
+   * his roles and his verification token in a single query.
+   *
+   * @param providerId user id on the external authorization provider.
+   * @return optional with found user.
+   */
+  @EntityGraph(attributePaths = {"roles", "verificationToken"})
+  Optional<User> findWithAuthoritiesByProviderId(String providerId);
+
   /**
    * Method for checking for the existence of email in the database.
    *
-   * @param email user verified email.
+   * @param email user verified canonical email.
    * @return true if mail already exists, otherwise false.
    */
-  boolean existsByEmail(String email);
+  @Query("select count(u) > 0 from User u where lower(u.email) = :email")
+  boolean existsByEmail(@Param("email") String email);
+
+  /**
+   * Method for getting the current version of the user's rights without loading the user.
+   *
+   * @param id user ID.
+   * @return optional with the rights version, empty if the user does not exist.
+   */
+  @Query("select u.authorizationVersion from User u where u.id = :id")
+  Optional<Integer> findAuthorizationVersionById(@Param("id") Long id);
+
+  /**
+   * Method for increasing the version of the user's rights in the database. The version is
+   * increased by the statement itself, so concurrent changes of one user get different versions.
+   *
+   * @param id user ID.
+   * @return number of changed users.
+   */
+  @Modifying(flushAutomatically = true)
+  @Query("update User u set u.authorizationVersion = u.authorizationVersion + 1 where u.id = :id")
+  int incrementAuthorizationVersion(@Param("id") Long id);
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package io.github.hogwartsschoolofmagic.user.persistence.dao;
+
+import io.github.hogwartsschoolofmagic.user.persistence.model.search.UserSearchCursor;
+import io.github.hogwartsschoolofmagic.user.persistence.model.search.UserSearchRow;
+import java.util.List;
+
+/**
+ * <p> Repository fragment for searching users without loading them as entities. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.27
+ */
+public interface UserSearchRepository {
+
+  /**
+   * Searching users whose full name, username or email contains the query, ignoring case. The
+   * users are sorted by the creation date and the id, the newest first, and are read starting
+   * after the given position instead of skipping the previous pages.
+   *
+   * @param query substring to search for, all users if null.
+   * @param after position of the last user of the previous page, null for the first page.
+   * @param limit maximum number of users.
+   * @return found users.
+   */
+  List<UserSearchRow> searchUsers(String query, UserSearchCursor after, int limit);
+}
\ No newline at end of file
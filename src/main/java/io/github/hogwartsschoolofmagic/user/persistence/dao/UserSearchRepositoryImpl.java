@@ -0,0 +1,84 @@
+package io.github.hogwartsschoolofmagic.user.persistence.dao;
+
+import io.github.hogwartsschoolofmagic.user.enumeration.AuthProvider;
+import io.github.hogwartsschoolofmagic.user.persistence.model.base.BaseStatus;
+import io.github.hogwartsschoolofmagic.user.persistence.model.search.UserSearchCursor;
+import io.github.hogwartsschoolofmagic.user.persistence.model.search.UserSearchRow;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * <p> Implementation of {@link UserSearchRepository}. The substring conditions use the trigram
+ * indexes of the full name, username and email, and the order with the position condition uses
+ * the index on the creation date and the id. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.27
+ */
+@RequiredArgsConstructor
+public class UserSearchRepositoryImpl implements UserSearchRepository {
+
+  private static final String SELECT_USERS_SQL = """
+      SELECT u.base_id, u.base_created_date, u.base_status, u.full_name, u.username, u.email,
+             u.email_verified, u.auth_provider
+      FROM users u
+      WHERE true
+      """;
+
+  private static final String QUERY_CONDITION_SQL = """
+       AND (u.full_name ILIKE ? OR u.username ILIKE ? OR u.email ILIKE ?)
+      """;
+
+  private static final String CURSOR_CONDITION_SQL = """
+       AND (u.base_created_date, u.base_id) < (?, ?)
+      """;
+
+  private static final String ORDER_SQL =
+      " ORDER BY u.base_created_date DESC, u.base_id DESC LIMIT ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public List<UserSearchRow> searchUsers(String query, UserSearchCursor after, int limit) {
+    var sql = new StringBuilder(SELECT_USERS_SQL);
+    var params = new ArrayList<>();
+    if (query != null) {
+      var pattern = "%" + escapeLike(query) + "%";
+      sql.append(QUERY_CONDITION_SQL);
+      params.add(pattern);
+      params.add(pattern);
+      params.add(pattern);
+    }
+    if (after != null) {
+      sql.append(CURSOR_CONDITION_SQL);
+      params.add(after.created());
+      params.add(after.id());
+    }
+    sql.append(ORDER_SQL);
+    params.add(limit);
+
+    return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new UserSearchRow(
+        rs.getLong("base_id"),
+        rs.getObject("base_created_date", LocalDateTime.class),
+        BaseStatus.valueOf(rs.getString("base_status")),
+        rs.getString("full_name"),
+        rs.getString("username"),
+        rs.getString("email"),
+        rs.getBoolean("email_verified"),
+        AuthProvider.valueOf(rs.getString("auth_provider"))
+    ), params.toArray());
+  }
+
+  /**
+   * Escaping the wildcards of the LIKE pattern, so that the query is matched literally.
+   *
+   * @param value query.
+   * @return query with escaped wildcards.
+   */
+  private static String escapeLike(String value) {
+    return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+}
\ No newline at end of file
@@ -3,6 +3,7 @@ package io.github.hogwartsschoolofmagic.user.persistence.dao;
 import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
 import io.github.hogwartsschoolofmagic.user.persistence.model.user.UserSetting;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -22,4 +23,13 @@ public interface UserSettingRepository extends JpaRepository<UserSetting, Long>
    * @return optional with found user settings.
    */
   List<UserSetting> findAllByUser(User user);
+
+  /**
+   * Getting a user setting by its name.
+   *
+   * @param userId id of the linked user.
+   * @param name   name of setting.
+   * @return optional with found user setting.
+   */
+  Optional<UserSetting> findFirstByUserIdAndName(Long userId, String name);
 }
\ No newline at end of file
@@ -18,6 +18,9 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 
@@ -34,12 +37,25 @@ import org.springframework.data.annotation.LastModifiedDate;
 @MappedSuperclass
 public class BaseEntity implements Serializable {
 
+  /**
+   * Number of ids taken from the table sequence at once. Must match the sequence increment.
+   */
+  public static final int ID_ALLOCATION_SIZE = 50;
+
   /**
    * Private field that stores information about the id of the record in the database.
-   * Automatically generated when saved to the database. No need to pre-assign.
+   * Automatically generated when saved to the database. No need to pre-assign. The ids are taken
+   * from the sequence of the table in blocks of {@value #ID_ALLOCATION_SIZE}, so that new records
+   * can be inserted in JDBC batches.
    */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "base_id")
+  @GenericGenerator(name = "base_id", strategy = "io.github.hogwartsschoolofmagic.user.persistence"
+      + ".model.base.TableSequenceIdGenerator", parameters = {
+          @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM,
+              value = "" + ID_ALLOCATION_SIZE),
+          @Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled-lo")
+      })
   @Column(name = "base_id", unique = true, nullable = false)
   @JsonView(Views.BaseId.class)
   private Long id;
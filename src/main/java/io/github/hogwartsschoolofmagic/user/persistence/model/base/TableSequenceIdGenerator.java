@@ -0,0 +1,31 @@
+package io.github.hogwartsschoolofmagic.user.persistence.model.base;
+
+import java.util.Properties;
+import org.hibernate.MappingException;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * <p> Generator of entity ids from the sequence of the entity table. The sequence is the one
+ * created for the "base_id" column of the table, so the ids continue the already saved ones. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.24
+ */
+public class TableSequenceIdGenerator extends SequenceStyleGenerator {
+
+  /**
+   * Suffix of the sequence name after the table name.
+   */
+  public static final String SEQUENCE_SUFFIX = "_base_id_seq";
+
+  @Override
+  public void configure(Type type, Properties params, ServiceRegistry serviceRegistry)
+      throws MappingException {
+    params.setProperty(SEQUENCE_PARAM,
+        params.getProperty(PersistentIdentifierGenerator.TABLE) + SEQUENCE_SUFFIX);
+    super.configure(type, params, serviceRegistry);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package io.github.hogwartsschoolofmagic.user.persistence.model.export;
+
+import io.github.hogwartsschoolofmagic.user.enumeration.AuthProvider;
+import io.github.hogwartsschoolofmagic.user.persistence.model.base.BaseStatus;
+import java.time.LocalDateTime;
+
+/**
+ * <p> Java record with the conditions of the export of users. All conditions are optional. The
+ * users are exported in the order of their ids, so an interrupted export is resumed by passing
+ * the id of the last received user as {@code after}. </p>
+ *
+ * @param status       status of the users.
+ * @param authProvider authentication provider of the users.
+ * @param createdFrom  lower bound (inclusive) of the creation date.
+ * @param createdTo    upper bound (exclusive) of the creation date.
+ * @param after        id of the last user received before, the export starts after it.
+ * @param roles        whether to export the names of the user roles.
+ * @param settings     whether to export the user settings.
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.26
+ */
+public record UserExportFilter(
+    BaseStatus status,
+    AuthProvider authProvider,
+    LocalDateTime createdFrom,
+    LocalDateTime createdTo,
+    Long after,
+    boolean roles,
+    boolean settings) {
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package io.github.hogwartsschoolofmagic.user.persistence.model.export;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.github.hogwartsschoolofmagic.user.enumeration.AuthProvider;
+import io.github.hogwartsschoolofmagic.user.persistence.model.base.BaseStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p> Java record with the data of an exported user. The roles and the settings are null when
+ * they were not requested. </p>
+ *
+ * @param id            user id, used to resume the export.
+ * @param created       creation date of the user.
+ * @param status        status of the user.
+ * @param fullname      full name of the user.
+ * @param email         email of the user.
+ * @param emailVerified whether the email is confirmed.
+ * @param authProvider  authentication provider of the user.
+ * @param lastVisit     date of the last visit of the user.
+ * @param roles         names of the user roles.
+ * @param settings      user settings by their names.
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.26
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserExportRow(
+    Long id,
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    LocalDateTime created,
+
+    BaseStatus status,
+    String fullname,
+    String email,
+    Boolean emailVerified,
+    AuthProvider authProvider,
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    LocalDateTime lastVisit,
+
+    List<String> roles,
+    Map<String, String> settings) {
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package io.github.hogwartsschoolofmagic.user.persistence.model.mail;
+
+import io.github.hogwartsschoolofmagic.user.enumeration.MailDeliveryStatus;
+import io.github.hogwartsschoolofmagic.user.persistence.model.base.BaseEntity;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Entity for the table of letters waiting to be sent. A letter is saved in the same transaction
+ * as the data it is about, and is sent later in the background.
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.15
+ */
+@Getter
+@Setter
+@EqualsAndHashCode(doNotUseGetters = true, callSuper = true)
+@ToString(exclude = {"token"}, doNotUseGetters = true, callSuper = true)
+@Entity
+@Table(name = "mail_outbox")
+public class MailOutboxMessage extends BaseEntity {
+
+  /**
+   * Private field that stores the email of the letter recipient.
+   */
+  @Column(name = "recipient", nullable = false)
+  private String recipient;
+
+  /**
+   * Private field that stores the verification token sent in the letter.
+   */
+  @Column(name = "token", nullable = false)
+  private String token;
+
+  /**
+   * Private field that stores the language of the letter.
+   */
+  @Column(name = "locale", nullable = false)
+  private String locale;
+
+  /**
+   * Private field that stores the delivery status of the letter.
+   */
+  @Column(name = "delivery_status", nullable = false)
+  @Enumerated(EnumType.STRING)
+  private MailDeliveryStatus deliveryStatus = MailDeliveryStatus.PENDING;
+
+  /**
+   * Private field that stores the number of attempts to send the letter.
+   */
+  @Column(name = "attempts", nullable = false)
+  private Integer attempts = 0;
+
+  /**
+   * Private field that stores the time of the next attempt to send the letter.
+   */
+  @Column(name = "next_attempt_date", nullable = false)
+  private LocalDateTime nextAttempt;
+
+  /**
+   * Private field that stores the error of the last unsuccessful attempt.
+   */
+  @Column(name = "last_error", length = 1024)
+  private String lastError;
+}
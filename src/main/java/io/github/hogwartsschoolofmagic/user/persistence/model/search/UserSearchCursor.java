@@ -0,0 +1,63 @@
+package io.github.hogwartsschoolofmagic.user.persistence.model.search;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * <p> Java record with the position in the list of found users: the creation date and the id of
+ * the last user of the previous page. The next page starts right after it, so reading a page
+ * costs the same regardless of its number. For the client the position is an opaque string. </p>
+ *
+ * @param created creation date of the last user of the previous page.
+ * @param id      id of the last user of the previous page.
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.27
+ */
+public record UserSearchCursor(LocalDateTime created, long id) {
+
+  private static final char SEPARATOR = '_';
+
+  /**
+   * Creating the position after a found user.
+   *
+   * @param row found user.
+   * @return position after the user.
+   */
+  public static UserSearchCursor after(UserSearchRow row) {
+    return new UserSearchCursor(row.created(), row.id());
+  }
+
+  /**
+   * Method for reading the position from the string received from the client.
+   *
+   * @param value string with the position.
+   * @return position.
+   * @throws IllegalArgumentException the string is not a position.
+   */
+  public static UserSearchCursor decode(String value) {
+    try {
+      var decoded = new String(Base64.getUrlDecoder().decode(value), UTF_8);
+      var separator = decoded.lastIndexOf(SEPARATOR);
+      if (separator < 0) {
+        throw new IllegalArgumentException("Invalid cursor: " + value);
+      }
+      return new UserSearchCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+          Long.parseLong(decoded.substring(separator + 1)));
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid cursor: " + value, e);
+    }
+  }
+
+  /**
+   * Method for writing the position to the string sent to the client.
+   *
+   * @return string with the position.
+   */
+  public String encode() {
+    var value = created.toString() + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(UTF_8));
+  }
+}
\ No newline at end of file
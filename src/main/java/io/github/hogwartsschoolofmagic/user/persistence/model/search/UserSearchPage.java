@@ -0,0 +1,14 @@
+package io.github.hogwartsschoolofmagic.user.persistence.model.search;
+
+import java.util.List;
+
+/**
+ * <p> Java record with a page of found users. </p>
+ *
+ * @param users found users, the newest first.
+ * @param next  position of the next page, null if this page is the last.
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.27
+ */
+public record UserSearchPage(List<UserSearchRow> users, String next) {
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package io.github.hogwartsschoolofmagic.user.persistence.model.search;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.github.hogwartsschoolofmagic.user.enumeration.AuthProvider;
+import io.github.hogwartsschoolofmagic.user.persistence.model.base.BaseStatus;
+import java.time.LocalDateTime;
+
+/**
+ * <p> Java record with the short data of a found user, read without loading the entity. </p>
+ *
+ * @param id            user id.
+ * @param created       creation date of the user.
+ * @param status        status of the user.
+ * @param fullname      full name of the user.
+ * @param username      username of the user.
+ * @param email         email of the user.
+ * @param emailVerified whether the email is confirmed.
+ * @param authProvider  authentication provider of the user.
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.27
+ */
+public record UserSearchRow(
+    Long id,
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    LocalDateTime created,
+
+    BaseStatus status,
+    String fullname,
+    String username,
+    String email,
+    Boolean emailVerified,
+    AuthProvider authProvider) {
+}
\ No newline at end of file
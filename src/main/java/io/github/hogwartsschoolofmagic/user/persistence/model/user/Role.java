@@ -3,6 +3,7 @@ package io.github.hogwartsschoolofmagic.user.persistence.model.user;
 import io.github.hogwartsschoolofmagic.user.enumeration.Roles;
 import io.github.hogwartsschoolofmagic.user.persistence.model.base.BaseEntity;
 import java.util.List;
+import java.util.Set;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
@@ -25,8 +26,8 @@ import lombok.ToString;
  */
 @Getter
 @Setter
-@EqualsAndHashCode(exclude = {"privileges"}, doNotUseGetters = true, callSuper = true)
-@ToString(exclude = {"privileges"}, doNotUseGetters = true, callSuper = true)
+@EqualsAndHashCode(exclude = {"users", "privileges"}, doNotUseGetters = true, callSuper = true)
+@ToString(exclude = {"users", "privileges"}, doNotUseGetters = true, callSuper = true)
 @Entity
 @Table(name = "roles")
 public class Role extends BaseEntity {
@@ -50,5 +51,5 @@ public class Role extends BaseEntity {
   @JoinTable(name = "role_privileges",
       joinColumns = {@JoinColumn(name = "role_id", referencedColumnName = "base_id")},
       inverseJoinColumns = {@JoinColumn(name = "privilege_id", referencedColumnName = "base_id")})
-  private List<Privilege> privileges;
+  private Set<Privilege> privileges;
 }
\ No newline at end of file
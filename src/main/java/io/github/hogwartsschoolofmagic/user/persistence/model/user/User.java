@@ -8,6 +8,7 @@ import io.github.hogwartsschoolofmagic.user.persistence.model.base.BaseEntity;
 import io.github.hogwartsschoolofmagic.user.persistence.model.views.Views;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
@@ -38,7 +39,9 @@ import lombok.ToString;
 @ToString(
     exclude = {"verificationToken", "roles", "settings"}, doNotUseGetters = true, callSuper = true
 )
-@JsonIgnoreProperties({"lastVisit", "verificationToken", "settings", "roles", "password"})
+@JsonIgnoreProperties({
+    "lastVisit", "verificationToken", "settings", "roles", "password", "authorizationVersion"
+})
 @Entity
 @Table(name = "users")
 public class User extends BaseEntity {
@@ -121,11 +124,18 @@ public class User extends BaseEntity {
   @JoinTable(name = "user_roles",
       joinColumns = {@JoinColumn(name = "user_id", referencedColumnName = "base_id")},
       inverseJoinColumns = {@JoinColumn(name = "role_id", referencedColumnName = "base_id")})
-  private List<Role> roles;
+  private Set<Role> roles;
 
   /**
    * Private field that stores, if any, the user's encrypted password.
    */
   @Column(name = "password")
   private String password;
+
+  /**
+   * Private field that stores the version of the user's rights. Increases with each change of
+   * the user's roles or privileges.
+   */
+  @Column(name = "authorization_version", nullable = false)
+  private Integer authorizationVersion = 0;
 }
\ No newline at end of file
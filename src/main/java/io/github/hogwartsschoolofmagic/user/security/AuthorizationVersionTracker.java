@@ -0,0 +1,95 @@
+package io.github.hogwartsschoolofmagic.user.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.hogwartsschoolofmagic.user.config.properties.PrincipalCacheProperties;
+import io.github.hogwartsschoolofmagic.user.persistence.dao.UserRepository;
+import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * <p> A class that keeps track of the current versions of user rights. Each change of the roles
+ * or privileges of a user must increase his version, after which tokens with a user copy of an
+ * older version are no longer accepted. The version stored in the database is authoritative: it
+ * is loaded on the first check of a user and kept in a bounded cache, which is updated by the
+ * change events of all service instances. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.6
+ */
+@Component
+public class AuthorizationVersionTracker {
+
+  /**
+   * Private field that stores the current rights version by user id.
+   */
+  private final Cache<Long, Integer> currentVersions;
+
+  /**
+   * Private field that stores the repository for loading the versions of unknown users.
+   */
+  private final UserRepository userRepository;
+
+  /**
+   * Creating a tracker whose cache has the same bounds as the cache of authenticated users.
+   *
+   * @param properties     settings of the cache of authenticated users.
+   * @param userRepository repository of the users.
+   */
+  public AuthorizationVersionTracker(PrincipalCacheProperties properties,
+                                     UserRepository userRepository) {
+    this.userRepository = userRepository;
+    this.currentVersions = Caffeine.newBuilder()
+        .maximumSize(properties.getMaximumSize())
+        .expireAfterWrite(properties.getTimeToLive())
+        .build();
+  }
+
+  /**
+   * Method for checking that the user copy was made with the current version of his rights. A
+   * copy of a user that no longer exists is never current.
+   *
+   * @param snapshot user copy.
+   * @return true if the rights in the copy are up-to-date, otherwise false.
+   */
+  public boolean isCurrent(UserSnapshot snapshot) {
+    var current = currentVersions.get(snapshot.id(),
+        id -> userRepository.findAuthorizationVersionById(id).orElse(null));
+    return current != null && snapshot.authorizationVersion() >= current;
+  }
+
+  /**
+   * Method for increasing the version of the user's rights. Must be called inside the transaction
+   * that changes the rights: the version is increased by the database, so concurrent changes of
+   * one user never share a version, and the local cache learns the new version only after a
+   * successful commit. The change must then be published through
+   * {@link io.github.hogwartsschoolofmagic.user.event.publisher.UserChangedPublisher} by the
+   * calling code.
+   *
+   * @param user the user whose rights have changed.
+   */
+  public void revoke(User user) {
+    userRepository.incrementAuthorizationVersion(user.getId());
+    var version = userRepository.findAuthorizationVersionById(user.getId()).orElseThrow();
+    user.setAuthorizationVersion(version);
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        record(user.getId(), version);
+      }
+    });
+  }
+
+  /**
+   * Method for saving the known version of the user's rights.
+   *
+   * @param userId  user ID.
+   * @param version rights version.
+   */
+  public void record(long userId, int version) {
+    currentVersions.asMap().merge(userId, version, Math::max);
+  }
+}
\ No newline at end of file
@@ -33,8 +33,8 @@ public class CustomPermissionEvaluator implements PermissionEvaluator {
       targetDomainObject = Hibernate.unproxy(targetDomainObject);
     }
 
-    final var targetType = targetDomainObject.getClass().getSimpleName().toUpperCase();
-    return hasPrivilege(auth, targetType, permission.toString().toUpperCase());
+    return getPermissionIndex(auth).hasPermission(targetDomainObject.getClass(),
+        (String) permission);
   }
 
   /**
@@ -52,19 +52,23 @@ public class CustomPermissionEvaluator implements PermissionEvaluator {
     if ((auth == null) || (targetType == null) || !(permission instanceof String)) {
       return false;
     }
-    return hasPrivilege(auth, targetType.toUpperCase(), permission.toString().toUpperCase());
+    return getPermissionIndex(auth).hasPermission(targetType, (String) permission);
   }
 
   /**
-   * Method for checking if a user has access to a specific object.
+   * Method for getting the index of user permissions. For our own authenticated user, the index
+   * already built for his rights is used, for others (including a user restored from the session)
+   * it is built from the authentication data.
    *
-   * @param auth       authentication data.
-   * @param targetType access target type.
-   * @param permission permit name.
-   * @return true if access rights are present, otherwise false
+   * @param auth authentication data.
+   * @return {@link PermissionIndex} with the user permissions.
    */
-  private boolean hasPrivilege(Authentication auth, String targetType, String permission) {
-    return auth.getAuthorities().parallelStream().anyMatch(
-        a -> a.getAuthority().startsWith(targetType) && a.getAuthority().contains(permission));
+  private PermissionIndex getPermissionIndex(Authentication auth) {
+    if (auth.getPrincipal() instanceof UserPrincipal userPrincipal
+        && userPrincipal.getPermissionIndex() != null) {
+      return userPrincipal.getPermissionIndex();
+    }
+
+    return PermissionIndex.of(auth.getAuthorities());
   }
 }
\ No newline at end of file
@@ -2,10 +2,13 @@ package io.github.hogwartsschoolofmagic.user.security;
 
 import io.github.hogwartsschoolofmagic.user.exception.resource.ResourceNotFoundException;
 import io.github.hogwartsschoolofmagic.user.persistence.dao.UserRepository;
+import io.github.hogwartsschoolofmagic.user.util.EmailUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -17,9 +20,11 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 @Service
 @Transactional
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
   private final UserRepository userRepository;
+  private final PrincipalCache principalCache;
+  private final RoleRegistry roleRegistry;
 
   /**
    * Method to get create authenticated user based on user retrieved from database via email.
@@ -30,26 +35,54 @@ public class CustomUserDetailsService implements UserDetailsService {
    */
   @Override
   public UserDetails loadUserByUsername(String email) throws ResourceNotFoundException {
-    var user = userRepository.findByEmail(email)
+    var user = userRepository.findWithAuthoritiesByEmail(EmailUtils.canonicalize(email))
         .orElseThrow(() ->
             new ResourceNotFoundException("User with email - %s, not found.", email)
         );
 
-    return UserPrincipal.create(user);
+    return UserPrincipal.create(user, roleRegistry);
   }
 
   /**
-   * Method to get create authenticated user based on user retrieved from database by id.
+   * Method to get create authenticated user based on user retrieved from database by id. The user
+   * is taken from the {@link PrincipalCache}, so the transaction is opened only by the repository
+   * call on a cache miss.
    *
    * @param id user ID.
    * @return {@link UserDetails} authenticated user.
    * @throws ResourceNotFoundException user not found by id.
    */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public UserDetails loadUserById(Long id) throws ResourceNotFoundException {
+    return principalCache.get(id, key -> {
+      var user = userRepository.findWithAuthoritiesById(key).orElseThrow(
+          () -> new ResourceNotFoundException("User with id - %s, not found.", String.valueOf(key))
+      );
+
+      return UserPrincipal.create(user, roleRegistry);
+    });
+  }
+
+  /**
+   * Method for replacing the user's password hash after a successful login, when the hash was
+   * made with another algorithm or a lower cost than the current settings.
+   *
+   * @param userDetails authenticated user.
+   * @param newPassword new password hash.
+   * @return {@link UserDetails} authenticated user with the new password hash.
+   * @throws ResourceNotFoundException user not found by id.
+   */
+  @Override
+  public UserDetails updatePassword(UserDetails userDetails, String newPassword)
+      throws ResourceNotFoundException {
+    var principal = (UserPrincipal) userDetails;
+    var id = principal.getUser().getId();
     var user = userRepository.findById(id).orElseThrow(
         () -> new ResourceNotFoundException("User with id - %s, not found.", String.valueOf(id))
     );
 
-    return UserPrincipal.create(user);
+    user.setPassword(newPassword);
+    principal.getUser().setPassword(newPassword);
+    return principal;
   }
 }
\ No newline at end of file
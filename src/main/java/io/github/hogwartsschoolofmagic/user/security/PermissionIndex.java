@@ -0,0 +1,157 @@
+package io.github.hogwartsschoolofmagic.user.security;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * <p> An immutable index of user permissions built from privileges of the form
+ * {@code <TYPE>_<PERMISSION>_PRIVILEGE}, for example {@code USER_READ_PRIVILEGE}. For each type
+ * of entity, a bit mask of the permitted actions is stored, so the check does not iterate over
+ * the rights and does not create new objects. The names of entity types and permissions are
+ * compared without regard to case. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.10
+ */
+public final class PermissionIndex {
+
+  private static final String PRIVILEGE_SUFFIX = "_PRIVILEGE";
+
+  /**
+   * Private field that stores the bit number of each known permission. Since the permissions are
+   * the names from the privileges table and the literals of the security expressions, their
+   * number is small and limited by the size of the mask.
+   */
+  private static final Map<String, Integer> PERMISSION_BITS = new ConcurrentHashMap<>();
+
+  /**
+   * Private field that stores the next free bit number, guarded by {@link #PERMISSION_BITS}.
+   */
+  private static int nextBit;
+
+  /**
+   * Private field that stores the upper-case simple name of each checked entity class.
+   */
+  private static final ClassValue<String> TYPE_NAMES = new ClassValue<>() {
+    @Override
+    protected String computeValue(Class<?> type) {
+      return type.getSimpleName().toUpperCase(Locale.ROOT);
+    }
+  };
+
+  /**
+   * Private field that stores the mask of permitted actions by the upper-case entity type.
+   */
+  private final Map<String, Long> permissionsByType;
+
+  private PermissionIndex(Map<String, Long> permissionsByType) {
+    this.permissionsByType = permissionsByType;
+  }
+
+  /**
+   * Static method for building an index from the user rights. Rights that are not privileges,
+   * for example roles, are skipped.
+   *
+   * @param authorities user rights.
+   * @return {@link PermissionIndex} with the user permissions.
+   */
+  public static PermissionIndex of(Collection<? extends GrantedAuthority> authorities) {
+    var permissionsByType = new HashMap<String, Long>();
+    for (var authority : authorities) {
+      var name = authority.getAuthority();
+      if (name == null || !name.endsWith(PRIVILEGE_SUFFIX)) {
+        continue;
+      }
+
+      var separator = name.indexOf('_');
+      var end = name.length() - PRIVILEGE_SUFFIX.length();
+      if (separator <= 0 || separator >= end) {
+        continue;
+      }
+
+      var bit = permissionBit(name.substring(separator + 1, end).toUpperCase(Locale.ROOT));
+      if (bit >= 0) {
+        permissionsByType.merge(name.substring(0, separator).toUpperCase(Locale.ROOT),
+            1L << bit, (left, right) -> left | right);
+      }
+    }
+
+    return new PermissionIndex(Map.copyOf(permissionsByType));
+  }
+
+  /**
+   * Method for checking the permission on an entity of the specified class.
+   *
+   * @param type       entity class.
+   * @param permission permission name.
+   * @return true if the permission is present, otherwise false.
+   */
+  public boolean hasPermission(Class<?> type, String permission) {
+    return hasPermission(permissionsByType.get(TYPE_NAMES.get(type)), permission);
+  }
+
+  /**
+   * Method for checking the permission on an entity of the specified type.
+   *
+   * @param type       entity type name.
+   * @param permission permission name.
+   * @return true if the permission is present, otherwise false.
+   */
+  public boolean hasPermission(String type, String permission) {
+    var permissions = permissionsByType.get(type);
+    if (permissions == null) {
+      permissions = permissionsByType.get(type.toUpperCase(Locale.ROOT));
+    }
+
+    return hasPermission(permissions, permission);
+  }
+
+  private static boolean hasPermission(Long permissions, String permission) {
+    if (permissions == null) {
+      return false;
+    }
+
+    var bit = PERMISSION_BITS.get(permission);
+    if (bit == null) {
+      bit = PERMISSION_BITS.get(permission.toUpperCase(Locale.ROOT));
+      if (bit == null) {
+        return false;
+      }
+
+      // Remember the spelling from the security expression to skip the conversion next time.
+      PERMISSION_BITS.putIfAbsent(permission, bit);
+    }
+
+    return (permissions & 1L << bit) != 0;
+  }
+
+  /**
+   * Getting the bit number of a permission, assigning a new one if necessary.
+   *
+   * @param permission upper-case permission name.
+   * @return bit number or -1 if the mask is full.
+   */
+  private static int permissionBit(String permission) {
+    var bit = PERMISSION_BITS.get(permission);
+    if (bit != null) {
+      return bit;
+    }
+
+    synchronized (PERMISSION_BITS) {
+      bit = PERMISSION_BITS.get(permission);
+      if (bit != null) {
+        return bit;
+      }
+      if (nextBit == Long.SIZE) {
+        return -1;
+      }
+
+      PERMISSION_BITS.put(permission, nextBit);
+      return nextBit++;
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package io.github.hogwartsschoolofmagic.user.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.hogwartsschoolofmagic.user.config.properties.PrincipalCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.function.LongFunction;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p> A bounded cache of authenticated users by their id. Immutable copies of the user data are
+ * stored, from which a new {@link UserPrincipal} is built on each request. Cache statistics are
+ * published to the actuator metrics under the name {@value #CACHE_NAME}. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.8
+ */
+@Component
+public class PrincipalCache {
+
+  private static final String CACHE_NAME = "user.principals";
+
+  /**
+   * Private field that stores the cache itself or null if caching is disabled.
+   */
+  private final Cache<Long, UserSnapshot> cache;
+
+  /**
+   * Private field that stores the registry with the rights of user roles.
+   */
+  private final RoleRegistry roleRegistry;
+
+  /**
+   * Creating a cache with the settings from the application properties.
+   *
+   * @param properties    cache settings.
+   * @param roleRegistry  registry with the rights of user roles.
+   * @param meterRegistry registry for publishing cache statistics.
+   */
+  public PrincipalCache(PrincipalCacheProperties properties, RoleRegistry roleRegistry,
+                        MeterRegistry meterRegistry) {
+    this.roleRegistry = roleRegistry;
+    if (!properties.isEnabled()) {
+      cache = null;
+      return;
+    }
+
+    cache = Caffeine.newBuilder()
+        .maximumSize(properties.getMaximumSize())
+        .expireAfterWrite(properties.getTimeToLive())
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * Getting an authenticated user from the cache or loading it.
+   *
+   * @param id     user ID.
+   * @param loader function for loading the user from the database.
+   * @return {@link UserPrincipal} authenticated user.
+   */
+  public UserPrincipal get(long id, LongFunction<UserPrincipal> loader) {
+    if (cache == null) {
+      return loader.apply(id);
+    }
+
+    return UserPrincipal.create(cache.get(id, key -> UserSnapshot.of(loader.apply(key))),
+        roleRegistry);
+  }
+
+  /**
+   * Removing a user from the cache.
+   *
+   * @param id user ID.
+   */
+  public void invalidate(long id) {
+    if (cache != null) {
+      cache.invalidate(id);
+    }
+  }
+
+  /**
+   * Removing all users from the cache.
+   */
+  public void invalidateAll() {
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+  }
+}
@@ -0,0 +1,148 @@
+package io.github.hogwartsschoolofmagic.user.security;
+
+import io.github.hogwartsschoolofmagic.user.enumeration.Roles;
+import io.github.hogwartsschoolofmagic.user.persistence.dao.RoleRepository;
+import io.github.hogwartsschoolofmagic.user.persistence.model.user.Privilege;
+import io.github.hogwartsschoolofmagic.user.persistence.model.user.Role;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p> An in-memory registry of roles and their privileges. The tables are read once at startup
+ * and on an explicit reload, after which the roles for new users and the rights of authenticated
+ * users are taken from memory. The rights are stored as shared immutable sets, one for each
+ * combination of roles. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.9
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RoleRegistry {
+
+  private final RoleRepository roleRepository;
+
+  /**
+   * Private field that stores the current loaded state of the registry.
+   */
+  private volatile State state;
+
+  /**
+   * Initial loading of roles after creating the registry.
+   */
+  @PostConstruct
+  public void init() {
+    reload();
+  }
+
+  /**
+   * Method for re-reading roles and privileges from the database. Requests that are already in
+   * progress keep working with the previous state.
+   */
+  public synchronized void reload() {
+    var roles = new EnumMap<Roles, Role>(Roles.class);
+    roleRepository.findAllWithPrivileges().forEach(role -> roles.put(role.getValue(), role));
+
+    var interned = new HashMap<String, GrantedAuthority>();
+    var authorities = new HashMap<Integer, Set<GrantedAuthority>>();
+    var values = Roles.values();
+    for (int mask = 0; mask < 1 << values.length; mask++) {
+      var combination = new LinkedHashSet<GrantedAuthority>();
+      for (var value : values) {
+        if ((mask & 1 << value.ordinal()) == 0) {
+          continue;
+        }
+
+        combination.add(interned.computeIfAbsent(value.getName(), SimpleGrantedAuthority::new));
+        Optional.ofNullable(roles.get(value)).map(Role::getPrivileges).orElse(Set.of()).stream()
+            .map(Privilege::getName)
+            .forEach(name ->
+                combination.add(interned.computeIfAbsent(name, SimpleGrantedAuthority::new)));
+      }
+      authorities.put(mask, Collections.unmodifiableSet(combination));
+    }
+
+    state = new State(Collections.unmodifiableMap(roles), Map.copyOf(authorities),
+        new ConcurrentHashMap<>());
+    log.info("Role registry loaded: {} roles, {} authorities.", roles.size(), interned.size());
+  }
+
+  /**
+   * Getting a role to assign to a user. The role is detached from the persistence context, so it
+   * can only be used as a reference from the user.
+   *
+   * @param value role value.
+   * @return optional with found role.
+   */
+  public Optional<Role> getRole(Roles value) {
+    return Optional.ofNullable(state.roles().get(value));
+  }
+
+  /**
+   * Getting the rights of a user with the specified roles.
+   *
+   * @param roles user roles.
+   * @return immutable set of rights shared by all users with the same roles.
+   */
+  public Set<GrantedAuthority> getAuthorities(Collection<Role> roles) {
+    var mask = 0;
+    for (var role : roles) {
+      mask |= 1 << role.getValue().ordinal();
+    }
+
+    return state.authorities().get(mask);
+  }
+
+  /**
+   * Getting the rights by the values of roles, for example, from a copy of the user data. The
+   * privileges are taken from the current state, so they follow each reload of the roles.
+   *
+   * @param values values of the user roles.
+   * @return immutable set of rights shared by all users with the same roles.
+   */
+  public Set<GrantedAuthority> getAuthoritiesByRoles(Collection<Roles> values) {
+    var mask = 0;
+    for (var value : values) {
+      mask |= 1 << value.ordinal();
+    }
+
+    return state.authorities().get(mask);
+  }
+
+  /**
+   * Getting the index of permissions for the rights received from this registry. The index is
+   * built once for each set of rights.
+   *
+   * @param authorities user rights.
+   * @return {@link PermissionIndex} shared by all users with the same rights.
+   */
+  public PermissionIndex getPermissionIndex(Set<GrantedAuthority> authorities) {
+    return state.permissionIndexes().computeIfAbsent(authorities, PermissionIndex::of);
+  }
+
+  /**
+   * Loaded state of the registry.
+   *
+   * @param roles             roles by their value.
+   * @param authorities       rights by the bit mask of the role ordinals.
+   * @param permissionIndexes indexes of permissions already built for sets of rights.
+   */
+  private record State(Map<Roles, Role> roles,
+                       Map<Integer, Set<GrantedAuthority>> authorities,
+                       Map<Set<GrantedAuthority>, PermissionIndex> permissionIndexes) {
+  }
+}
@@ -1,13 +1,21 @@
 package io.github.hogwartsschoolofmagic.user.security;
 
 import io.github.hogwartsschoolofmagic.user.config.properties.JwtProperties;
+import io.github.hogwartsschoolofmagic.user.enumeration.AuthProvider;
+import io.github.hogwartsschoolofmagic.user.enumeration.Roles;
+import io.github.hogwartsschoolofmagic.user.exception.auth.InvalidTokenException;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.SignatureException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,65 +34,144 @@ public class TokenProvider {
 
   private static final Logger logger = LoggerFactory.getLogger(TokenProvider.class);
 
+  private static final String USER_CLAIM = "user";
+  private static final String ROLES_CLAIM = "roles";
+  private static final String AUTHORIZATION_VERSION_CLAIM = "authorizationVersion";
+
   private final JwtProperties jwtProperties;
+  private final VerifiedTokenCache verifiedTokenCache;
 
   /**
-   * Method for generating an authentication token from existing user data.
+   * Method for generating an authentication token from existing user data. In stateless mode, a
+   * copy of the user data and the names of his roles are also written into the token. The
+   * privileges of the roles are not written: they are taken from {@link RoleRegistry} on each
+   * request, so a reload of the roles applies to the issued tokens as well.
    *
    * @param authentication user authentication information.
    * @return authentication token string.
    */
   public String createToken(Authentication authentication) {
-    final var principalId = ((UserPrincipal) authentication.getPrincipal()).getUser().getId();
+    final var principal = (UserPrincipal) authentication.getPrincipal();
     final var currentDate = new Date();
 
     final var auth = jwtProperties.getAuth();
-    return Jwts.builder()
-        .setSubject(String.valueOf(principalId))
+    var builder = Jwts.builder()
+        .setSubject(String.valueOf(principal.getUser().getId()))
         .setIssuedAt(currentDate)
         .setExpiration(
-            new Date(currentDate.getTime() + auth.getTokenExpirationMsec()))
+            new Date(currentDate.getTime() + auth.getTokenExpirationMsec()));
+
+    if (auth.isStateless()) {
+      var snapshot = UserSnapshot.of(principal);
+      var user = new HashMap<String, Object>();
+      user.put("fullname", snapshot.fullname());
+      user.put("avatar", snapshot.avatar());
+      user.put("username", snapshot.username());
+      user.put("email", snapshot.email());
+      user.put("emailVerified", snapshot.emailVerified());
+      user.put("authProvider", snapshot.authProvider().name());
+      builder
+          .claim(USER_CLAIM, user)
+          .claim(ROLES_CLAIM, snapshot.roles().stream().map(Roles::getName).toList())
+          .claim(AUTHORIZATION_VERSION_CLAIM, snapshot.authorizationVersion());
+    }
+
+    return builder
         .signWith(SignatureAlgorithm.HS512, auth.getTokenSecret())
         .compact();
   }
 
   /**
-   * Method for decrypting a token to get its data.
+   * Method for getting a copy of the user data written into the token in stateless mode.
    *
-   * @param token token with encrypted user data.
-   * @return user id or user id in external provider.
+   * @param token verified token.
+   * @return optional with a copy of the user data, empty if stateless mode is disabled or the
+   *     token was issued without the user data or the names of his roles.
    */
-  public long getUserIdFromToken(String token) {
-    var claims = Jwts.parser()
-        .setSigningKey(jwtProperties.getAuth().getTokenSecret())
-        .parseClaimsJws(token)
-        .getBody();
+  public Optional<UserSnapshot> getUserSnapshot(VerifiedToken token) {
+    var claims = token.claims();
+    if (!jwtProperties.getAuth().isStateless() || !claims.containsKey(USER_CLAIM)
+        || !claims.containsKey(ROLES_CLAIM)) {
+      return Optional.empty();
+    }
+
+    var user = (Map<?, ?>) claims.get(USER_CLAIM);
+    var roles = UserSnapshot.rolesOf(((Collection<?>) claims.get(ROLES_CLAIM)).stream()
+        .map(String::valueOf)
+        .collect(Collectors.toSet()));
+    return Optional.of(new UserSnapshot(
+        token.userId(),
+        (String) user.get("fullname"),
+        (String) user.get("avatar"),
+        (String) user.get("username"),
+        (String) user.get("email"),
+        Boolean.TRUE.equals(user.get("emailVerified")),
+        AuthProvider.valueOf((String) user.get("authProvider")),
+        ((Number) claims.get(AUTHORIZATION_VERSION_CLAIM)).intValue(),
+        roles
+    ));
+  }
 
-    return Long.parseLong(claims.getSubject());
+  /**
+   * Method for checking the authentication token and decrypting its data in a single pass. Tokens
+   * that have already been verified are taken from {@link VerifiedTokenCache}.
+   *
+   * @param token token with encrypted user data.
+   * @return {@link VerifiedToken} with the token data.
+   * @throws InvalidTokenException the token did not pass verification.
+   */
+  public VerifiedToken verifyToken(String token) throws InvalidTokenException {
+    return verifiedTokenCache.get(token, this::parseToken);
   }
 
   /**
-   * Method for checking the authentication token for validation.
+   * Method for checking the token signature and parsing its claims.
    *
-   * @param authToken token string for verification.
-   * @return true if the token is valid, otherwise false.
+   * @param token token with encrypted user data.
+   * @return {@link VerifiedToken} with the token data.
+   * @throws InvalidTokenException the token did not pass verification.
    */
-  public boolean validateToken(String authToken) {
+  private VerifiedToken parseToken(String token) throws InvalidTokenException {
     try {
-      Jwts.parser().setSigningKey(jwtProperties.getAuth().getTokenSecret())
-          .parseClaimsJws(authToken);
-      return true;
+      var claims = Jwts.parser()
+          .setSigningKey(jwtProperties.getAuth().getTokenSecret())
+          .parseClaimsJws(token)
+          .getBody();
+
+      if (claims.getSubject() == null || claims.getIssuedAt() == null
+          || claims.getExpiration() == null) {
+        throw invalidToken(InvalidTokenException.Reason.MALFORMED, null);
+      }
+
+      return new VerifiedToken(
+          Long.parseLong(claims.getSubject()),
+          claims.getIssuedAt().toInstant(),
+          claims.getExpiration().toInstant(),
+          claims
+      );
     } catch (SignatureException ex) {
-      logger.error("Invalid JWT signature");
-    } catch (MalformedJwtException ex) {
-      logger.error("Invalid JWT token");
+      throw invalidToken(InvalidTokenException.Reason.INVALID_SIGNATURE, ex);
+    } catch (MalformedJwtException | NumberFormatException ex) {
+      throw invalidToken(InvalidTokenException.Reason.MALFORMED, ex);
     } catch (ExpiredJwtException ex) {
-      logger.error("Expired JWT token");
+      throw invalidToken(InvalidTokenException.Reason.EXPIRED, ex);
     } catch (UnsupportedJwtException ex) {
-      logger.error("Unsupported JWT token");
+      throw invalidToken(InvalidTokenException.Reason.UNSUPPORTED, ex);
     } catch (IllegalArgumentException ex) {
-      logger.error("JWT claims string is empty.");
+      throw invalidToken(InvalidTokenException.Reason.EMPTY, ex);
     }
-    return false;
+  }
+
+  /**
+   * Creating an exception for a rejected token and logging the reason.
+   *
+   * @param reason reason for rejection.
+   * @param cause  the original parser error.
+   * @return exception to be thrown.
+   */
+  private InvalidTokenException invalidToken(InvalidTokenException.Reason reason,
+                                             Exception cause) {
+    logger.error(reason.getDescription());
+    return new InvalidTokenException(reason, cause);
   }
 }
\ No newline at end of file
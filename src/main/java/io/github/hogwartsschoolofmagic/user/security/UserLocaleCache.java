@@ -0,0 +1,74 @@
+package io.github.hogwartsschoolofmagic.user.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.hogwartsschoolofmagic.user.config.properties.PrincipalCacheProperties;
+import io.github.hogwartsschoolofmagic.user.service.UserSettingService;
+import java.util.Locale;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p> A bounded cache of the languages chosen by the users in their "locale" setting. The stored
+ * setting is the source of the language, so a change applies to the next request of the user
+ * without a new login. A changed user is removed from the cache on all service instances through
+ * the user change event. The cache has the same bounds as {@link PrincipalCache}. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.18
+ */
+@Component
+public class UserLocaleCache {
+
+  /**
+   * Private field that stores the cache itself or null if caching is disabled.
+   */
+  private final Cache<Long, Optional<Locale>> cache;
+
+  /**
+   * Private field that stores the service for loading the user setting.
+   */
+  private final UserSettingService userSettingService;
+
+  /**
+   * Creating a cache with the settings of the cache of authenticated users.
+   *
+   * @param properties         settings of the cache of authenticated users.
+   * @param userSettingService service for loading the user setting.
+   */
+  public UserLocaleCache(PrincipalCacheProperties properties,
+                         UserSettingService userSettingService) {
+    this.userSettingService = userSettingService;
+    this.cache = properties.isEnabled()
+        ? Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTimeToLive())
+            .build()
+        : null;
+  }
+
+  /**
+   * Getting the language chosen by the user.
+   *
+   * @param userId user ID.
+   * @return optional with the supported language, empty if the user has not chosen it.
+   */
+  public Optional<Locale> get(long userId) {
+    if (cache == null) {
+      return userSettingService.getLocale(userId);
+    }
+
+    return cache.get(userId, userSettingService::getLocale);
+  }
+
+  /**
+   * Removing a user from the cache.
+   *
+   * @param userId user ID.
+   */
+  public void invalidate(long userId) {
+    if (cache != null) {
+      cache.invalidate(userId);
+    }
+  }
+}
\ No newline at end of file
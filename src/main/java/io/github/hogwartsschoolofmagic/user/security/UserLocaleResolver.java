@@ -0,0 +1,89 @@
+package io.github.hogwartsschoolofmagic.user.security;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.lang.NonNull;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
+
+/**
+ * <p> Stateless resolver of the request language. The language of an authenticated user is taken
+ * from his "locale" setting, which the token filter reads through {@link UserLocaleCache} and
+ * saves in the request; otherwise it is taken from the "Accept-Language" header, and finally the
+ * default language is used. Nothing is stored between requests, so the resolver does not need an
+ * HTTP session. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.18
+ */
+public class UserLocaleResolver extends AcceptHeaderLocaleResolver {
+
+  /**
+   * Name of the request attribute that stores the language of the authenticated user.
+   */
+  public static final String USER_LOCALE_ATTRIBUTE =
+      UserLocaleResolver.class.getName() + ".LOCALE";
+
+  /**
+   * Language used when the request does not specify a supported one.
+   */
+  public static final Locale DEFAULT_LOCALE = Locale.ENGLISH;
+
+  /**
+   * Languages for which the server has localized messages.
+   */
+  public static final List<Locale> SUPPORTED_LOCALES = List.of(DEFAULT_LOCALE, new Locale("ru"));
+
+  /**
+   * Constructor for creating a resolver with the supported and default languages.
+   */
+  public UserLocaleResolver() {
+    setSupportedLocales(SUPPORTED_LOCALES);
+    setDefaultLocale(DEFAULT_LOCALE);
+  }
+
+  /**
+   * Method for converting a language tag into one of the supported languages.
+   *
+   * @param languageTag language tag, for example "ru" or "en-US".
+   * @return optional with the supported language, empty if the language is not supported.
+   */
+  public static Optional<Locale> toSupportedLocale(String languageTag) {
+    if (!StringUtils.hasText(languageTag)) {
+      return Optional.empty();
+    }
+
+    var language = Locale.forLanguageTag(languageTag.replace('_', '-')).getLanguage();
+    return SUPPORTED_LOCALES.stream()
+        .filter(locale -> locale.getLanguage().equals(language))
+        .findFirst();
+  }
+
+  /**
+   * Method for saving the language of the authenticated user in the request.
+   *
+   * @param request request data.
+   * @param locale  user language.
+   */
+  public static void setUserLocale(HttpServletRequest request, Locale locale) {
+    request.setAttribute(USER_LOCALE_ATTRIBUTE, locale);
+  }
+
+  /**
+   * Method for getting the request language.
+   *
+   * @param request request data.
+   * @return language of the authenticated user, otherwise the language from the "Accept-Language"
+   *     header or the default language.
+   */
+  @Override
+  @NonNull
+  public Locale resolveLocale(@NonNull HttpServletRequest request) {
+    if (request.getAttribute(USER_LOCALE_ATTRIBUTE) instanceof Locale locale) {
+      return locale;
+    }
+    return super.resolveLocale(request);
+  }
+}
\ No newline at end of file
@@ -2,13 +2,11 @@ package io.github.hogwartsschoolofmagic.user.security;
 
 import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
 import java.io.Serial;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 
@@ -35,6 +33,11 @@ public class UserPrincipal implements OAuth2User, UserDetails {
    */
   private final Collection<? extends GrantedAuthority> authorities;
 
+  /**
+   * Private field that stores the index of the authenticated user's permissions.
+   */
+  private final transient PermissionIndex permissionIndex;
+
   /**
    * Private field that stores a list of attributes received from an external provider.
    */
@@ -43,30 +46,41 @@ public class UserPrincipal implements OAuth2User, UserDetails {
   /**
    * Static method to create and populate an authenticated user created in the usual way.
    *
-   * @param user logged in user.
+   * @param user         logged in user.
+   * @param roleRegistry registry with the rights of user roles.
    * @return {@link UserPrincipal} authenticated user.
    */
-  public static UserPrincipal create(User user) {
-    var authorities = new ArrayList<GrantedAuthority>();
-    user.getRoles().forEach(role -> {
-      authorities.add(new SimpleGrantedAuthority(role.getValue().getName()));
-      role.getPrivileges().stream()
-          .map(privilege -> new SimpleGrantedAuthority(privilege.getName()))
-          .forEach(authorities::add);
-    });
-
-    return new UserPrincipal(user, authorities);
+  public static UserPrincipal create(User user, RoleRegistry roleRegistry) {
+    var authorities = roleRegistry.getAuthorities(user.getRoles());
+    return new UserPrincipal(user, authorities, roleRegistry.getPermissionIndex(authorities));
+  }
+
+  /**
+   * Static method to create an authenticated user from a copy of his data without accessing the
+   * database.
+   *
+   * @param snapshot     copy of the user data.
+   * @param roleRegistry registry with the rights of user roles.
+   * @return {@link UserPrincipal} authenticated user.
+   */
+  public static UserPrincipal create(UserSnapshot snapshot, RoleRegistry roleRegistry) {
+    var authorities = roleRegistry.getAuthoritiesByRoles(snapshot.roles());
+    return new UserPrincipal(snapshot.toUser(), authorities,
+        roleRegistry.getPermissionIndex(authorities));
   }
 
   /**
    * Static method to create and populate an authenticated user created after authorization
    * through an external provider.
    *
-   * @param user logged in user.
+   * @param user         logged in user.
+   * @param roleRegistry registry with the rights of user roles.
+   * @param attributes   attributes received from an external provider.
    * @return {@link UserPrincipal} authenticated user.
    */
-  public static UserPrincipal create(User user, Map<String, Object> attributes) {
-    var userPrincipal = UserPrincipal.create(user);
+  public static UserPrincipal create(User user, RoleRegistry roleRegistry,
+                                     Map<String, Object> attributes) {
+    var userPrincipal = UserPrincipal.create(user, roleRegistry);
     userPrincipal.setAttributes(attributes);
     return userPrincipal;
   }
@@ -75,6 +89,10 @@ public class UserPrincipal implements OAuth2User, UserDetails {
     return user;
   }
 
+  public PermissionIndex getPermissionIndex() {
+    return permissionIndex;
+  }
+
   @Override
   public String getPassword() {
     return user.getPassword();
@@ -0,0 +1,104 @@
+package io.github.hogwartsschoolofmagic.user.security;
+
+import io.github.hogwartsschoolofmagic.user.enumeration.AuthProvider;
+import io.github.hogwartsschoolofmagic.user.enumeration.Roles;
+import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * <p> Payload java record with a small immutable copy of the authenticated user data, which is
+ * enough to build {@link UserPrincipal} without loading the user from the database. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.6
+ */
+public record UserSnapshot(
+    // Private field containing the user id.
+    long id,
+
+    // Private field containing the user's full name.
+    String fullname,
+
+    // Private field containing a link to the user's avatar.
+    String avatar,
+
+    // Private field containing the username.
+    String username,
+
+    // Private field containing the user's email.
+    String email,
+
+    // Private field containing information about the user's email confirmation.
+    boolean emailVerified,
+
+    // Private field containing the type of the user's authorization provider.
+    AuthProvider authProvider,
+
+    // Private field containing the version of the user's rights at the time of the copy.
+    int authorizationVersion,
+
+    // Private field containing the user's roles. Their privileges are taken from RoleRegistry.
+    Set<Roles> roles) {
+
+  public UserSnapshot {
+    roles = Set.copyOf(roles);
+  }
+
+  /**
+   * Static method to create a copy of the authenticated user data.
+   *
+   * @param principal authenticated user.
+   * @return {@link UserSnapshot} with the user data.
+   */
+  public static UserSnapshot of(UserPrincipal principal) {
+    var user = principal.getUser();
+    return new UserSnapshot(
+        user.getId(),
+        user.getFullname(),
+        user.getAvatar(),
+        user.getUsername(),
+        user.getEmail(),
+        Boolean.TRUE.equals(user.getEmailVerified()),
+        user.getAuthProvider(),
+        user.getAuthorizationVersion(),
+        rolesOf(principal.getAuthorities().stream()
+            .map(GrantedAuthority::getAuthority)
+            .collect(Collectors.toSet()))
+    );
+  }
+
+  /**
+   * Method for creating a detached user entity from the copied data.
+   *
+   * @return {@link User} with the copied data.
+   */
+  public User toUser() {
+    var user = new User();
+    user.setId(id);
+    user.setFullname(fullname);
+    user.setAvatar(avatar);
+    user.setUsername(username);
+    user.setEmail(email);
+    user.setEmailVerified(emailVerified);
+    user.setAuthProvider(authProvider);
+    user.setAuthorizationVersion(authorizationVersion);
+    return user;
+  }
+
+  /**
+   * Static method to get the roles by their names. Names of privileges and unknown roles are
+   * skipped.
+   *
+   * @param names names of rights.
+   * @return roles with the specified names.
+   */
+  public static Set<Roles> rolesOf(Collection<String> names) {
+    return Arrays.stream(Roles.values())
+        .filter(value -> names.contains(value.getName()))
+        .collect(Collectors.toSet());
+  }
+}
\ No newline at end of file
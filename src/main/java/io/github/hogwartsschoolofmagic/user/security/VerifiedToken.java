@@ -0,0 +1,31 @@
+package io.github.hogwartsschoolofmagic.user.security;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p> Payload java record with the data of a JWT token whose signature has already been checked.
+ * </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.4
+ */
+public record VerifiedToken(
+    // Private field containing the id of the user the token was issued for.
+    long userId,
+
+    // Private field containing the token issue date.
+    Instant issuedAt,
+
+    // Private field containing the token expiration date.
+    Instant expiration,
+
+    // Private field containing all token claims, including the standard ones.
+    Map<String, Object> claims) {
+
+  public VerifiedToken {
+    claims = Collections.unmodifiableMap(new LinkedHashMap<>(claims));
+  }
+}
@@ -0,0 +1,115 @@
+package io.github.hogwartsschoolofmagic.user.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.github.hogwartsschoolofmagic.user.config.properties.JwtProperties;
+import io.github.hogwartsschoolofmagic.user.exception.auth.InvalidTokenException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p> A bounded cache of already verified JWT tokens. The key is a digest of the raw token, so
+ * the tokens themselves are not kept in memory, and each entry is evicted no later than the
+ * expiration of its token. Cache statistics are published to the actuator metrics under the name
+ * {@value #CACHE_NAME}. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.5
+ */
+@Component
+public class VerifiedTokenCache {
+
+  private static final String CACHE_NAME = "jwt.verified.tokens";
+
+  /**
+   * Private field that stores the cache itself or null if caching is disabled.
+   */
+  private final Cache<String, VerifiedToken> cache;
+
+  /**
+   * Creating a cache with the settings from the application properties.
+   *
+   * @param jwtProperties settings for JWT tokens.
+   * @param meterRegistry registry for publishing cache statistics.
+   */
+  public VerifiedTokenCache(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+    var settings = jwtProperties.getAuth().getCache();
+    if (!settings.isEnabled()) {
+      cache = null;
+      return;
+    }
+
+    cache = Caffeine.newBuilder()
+        .maximumSize(settings.getMaximumSize())
+        .expireAfter(new UntilTokenExpiration())
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * Getting a verified token from the cache or verifying it and putting it in the cache. Rejected
+   * tokens are not cached.
+   *
+   * @param token    raw token string.
+   * @param verifier function that checks the token signature and parses it.
+   * @return {@link VerifiedToken} with the token data.
+   * @throws InvalidTokenException the token did not pass verification.
+   */
+  public VerifiedToken get(String token, Function<String, VerifiedToken> verifier)
+      throws InvalidTokenException {
+    if (cache == null) {
+      return verifier.apply(token);
+    }
+
+    return cache.get(digest(token), key -> verifier.apply(token));
+  }
+
+  /**
+   * Getting a digest of the token, which is used as the cache key.
+   *
+   * @param token raw token string.
+   * @return Base64 representation of the SHA-256 digest of the token.
+   */
+  private static String digest(String token) {
+    try {
+      var hash = MessageDigest.getInstance("SHA-256")
+          .digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported", e);
+    }
+  }
+
+  /**
+   * Expiration policy that keeps each entry until its token expires.
+   */
+  private static final class UntilTokenExpiration implements Expiry<String, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+      return Math.max(0, Duration.between(Instant.now(), token.expiration()).toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime,
+                                  long currentDuration) {
+      return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead(String key, VerifiedToken token, long currentTime,
+                                long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -1,24 +1,35 @@
 package io.github.hogwartsschoolofmagic.user.security.filter;
 
+import io.github.hogwartsschoolofmagic.user.exception.auth.InvalidTokenException;
 import io.github.hogwartsschoolofmagic.user.exception.resource.ResourceNotFoundException;
+import io.github.hogwartsschoolofmagic.user.security.AuthorizationVersionTracker;
 import io.github.hogwartsschoolofmagic.user.security.CustomUserDetailsService;
+import io.github.hogwartsschoolofmagic.user.security.RoleRegistry;
 import io.github.hogwartsschoolofmagic.user.security.TokenProvider;
+import io.github.hogwartsschoolofmagic.user.security.UserLocaleCache;
+import io.github.hogwartsschoolofmagic.user.security.UserLocaleResolver;
+import io.github.hogwartsschoolofmagic.user.security.UserPrincipal;
+import io.github.hogwartsschoolofmagic.user.security.VerifiedToken;
 import java.io.IOException;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.LocaleResolver;
 
 /**
  * <p> The class that is used to read the JWT authentication token from the request, validate it
- * and set the SecurityContext Spring Security if the token is valid. </p>
+ * and set the SecurityContext Spring Security if the token is valid. It also resolves the request
+ * language, so that messages created before the dispatcher servlet are localized too. </p>
  *
  * @author Vladislav [SmithyVL] Kuznetsov.
  * @since 0.3.0
@@ -27,6 +38,10 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
   private TokenProvider tokenProvider;
   private CustomUserDetailsService customUserDetailsService;
+  private AuthorizationVersionTracker authorizationVersionTracker;
+  private RoleRegistry roleRegistry;
+  private LocaleResolver localeResolver;
+  private UserLocaleCache userLocaleCache;
 
   @Autowired
   public void setTokenProvider(TokenProvider tokenProvider) {
@@ -38,6 +53,27 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
     this.customUserDetailsService = customUserDetailsService;
   }
 
+  @Autowired
+  public void setAuthorizationVersionTracker(
+      AuthorizationVersionTracker authorizationVersionTracker) {
+    this.authorizationVersionTracker = authorizationVersionTracker;
+  }
+
+  @Autowired
+  public void setRoleRegistry(RoleRegistry roleRegistry) {
+    this.roleRegistry = roleRegistry;
+  }
+
+  @Autowired
+  public void setLocaleResolver(LocaleResolver localeResolver) {
+    this.localeResolver = localeResolver;
+  }
+
+  @Autowired
+  public void setUserLocaleCache(UserLocaleCache userLocaleCache) {
+    this.userLocaleCache = userLocaleCache;
+  }
+
   /**
    * Method for pre-checking the authentication data in the request before passing it further.
    *
@@ -53,26 +89,36 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
     try {
       var jwt = getJwtFromRequest(request);
 
-      if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-        var id = tokenProvider.getUserIdFromToken(jwt);
-        checkingAuthorization(request, id);
+      if (StringUtils.hasText(jwt)) {
+        var verifiedToken = tokenProvider.verifyToken(jwt);
+        checkingAuthorization(request, verifiedToken);
+        userLocaleCache.get(verifiedToken.userId())
+            .ifPresent(locale -> UserLocaleResolver.setUserLocale(request, locale));
       }
+    } catch (InvalidTokenException e) {
+      logger.debug("Rejected JWT token: " + e.getReason());
     } catch (Exception e) {
       logger.error("Could not set user authentication in security context", e);
     }
 
-    filterChain.doFilter(request, response);
+    var previousLocaleContext = LocaleContextHolder.getLocaleContext();
+    LocaleContextHolder.setLocale(localeResolver.resolveLocale(request));
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      LocaleContextHolder.setLocaleContext(previousLocaleContext);
+    }
   }
 
   /**
-   * Checking user authorization by his id.
+   * Checking user authorization by the data from his token.
    *
    * @param request request data.
-   * @param id      the user ID in the database, obtained from the JWT token after decryption.
+   * @param token   verified JWT token.
    */
-  private void checkingAuthorization(HttpServletRequest request, long id) {
+  private void checkingAuthorization(HttpServletRequest request, VerifiedToken token) {
     try {
-      var userDetails = customUserDetailsService.loadUserById(id);
+      var userDetails = loadUserDetails(token);
       var authentication = new UsernamePasswordAuthenticationToken(
           userDetails, null, userDetails.getAuthorities()
       );
@@ -83,6 +129,26 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
     }
   }
 
+  /**
+   * Getting the authenticated user. In stateless mode it is built from the token itself,
+   * otherwise the user is loaded from the database by the id from the token.
+   *
+   * @param token verified JWT token.
+   * @return {@link UserDetails} authenticated user.
+   * @throws InvalidTokenException the user rights in the token are out of date.
+   */
+  private UserDetails loadUserDetails(VerifiedToken token) throws InvalidTokenException {
+    var snapshot = tokenProvider.getUserSnapshot(token);
+    if (snapshot.isEmpty()) {
+      return customUserDetailsService.loadUserById(token.userId());
+    }
+
+    if (!authorizationVersionTracker.isCurrent(snapshot.get())) {
+      throw new InvalidTokenException(InvalidTokenException.Reason.REVOKED, null);
+    }
+    return UserPrincipal.create(snapshot.get(), roleRegistry);
+  }
+
   /**
    * Method for getting an authentication token from request headers.
    *
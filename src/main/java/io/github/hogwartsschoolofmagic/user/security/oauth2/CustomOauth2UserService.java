@@ -2,17 +2,20 @@ package io.github.hogwartsschoolofmagic.user.security.oauth2;
 
 import io.github.hogwartsschoolofmagic.user.enumeration.AuthProvider;
 import io.github.hogwartsschoolofmagic.user.enumeration.Roles;
+import io.github.hogwartsschoolofmagic.user.event.publisher.UserChangedPublisher;
 import io.github.hogwartsschoolofmagic.user.exception.auth.Oauth2AuthenticationProcessingException;
 import io.github.hogwartsschoolofmagic.user.exception.resource.ResourceNotFoundException;
-import io.github.hogwartsschoolofmagic.user.persistence.dao.RoleRepository;
 import io.github.hogwartsschoolofmagic.user.persistence.dao.UserRepository;
 import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
+import io.github.hogwartsschoolofmagic.user.security.RoleRegistry;
 import io.github.hogwartsschoolofmagic.user.security.UserPrincipal;
 import io.github.hogwartsschoolofmagic.user.security.oauth2.user.AbstractOauth2UserInfo;
 import io.github.hogwartsschoolofmagic.user.security.oauth2.user.Oauth2UserInfoFactory;
+import io.github.hogwartsschoolofmagic.user.service.LastVisitService;
 import io.github.hogwartsschoolofmagic.user.service.MessageService;
+import io.github.hogwartsschoolofmagic.user.util.EmailUtils;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
@@ -37,8 +40,10 @@ public class CustomOauth2UserService extends DefaultOAuth2UserService {
 
   private final MessageService messageService;
   private final UserRepository userRepository;
-  private final RoleRepository roleRepository;
+  private final RoleRegistry roleRegistry;
   private final Oauth2UserInfoFactory userInfoFactory;
+  private final UserChangedPublisher userChangedPublisher;
+  private final LastVisitService lastVisitService;
 
   /**
    * Method for getting user authentication after successful authorization from external
@@ -74,21 +79,21 @@ public class CustomOauth2UserService extends DefaultOAuth2UserService {
                 oauth2UserRequest.getClientRegistration().getRegistrationId().toUpperCase()),
             oauth2User.getAttributes());
 
-    final var email = oauth2UserInfo.getEmail();
+    final var email = EmailUtils.canonicalize(oauth2UserInfo.getEmail());
     if (!StringUtils.hasText(email)) {
       throw new Oauth2AuthenticationProcessingException(messageService.getMessageWithArgs(
           "auth.error.email.not.found", new Object[] {email})
       );
     }
 
-    var user = userRepository.findByEmail(email)
+    var user = userRepository.findWithAuthoritiesByEmail(email)
         .map(
             value -> updateExistingUser(value, oauth2UserInfo)
         ).orElseGet(
             () -> registerNewUser(oauth2UserInfo)
         );
 
-    return UserPrincipal.create(user, oauth2User.getAttributes());
+    return UserPrincipal.create(user, roleRegistry, oauth2User.getAttributes());
   }
 
   /**
@@ -104,16 +109,16 @@ public class CustomOauth2UserService extends DefaultOAuth2UserService {
     user.setAuthProvider(abstractOauth2UserInfo.getProviderId());
     user.setProviderId(abstractOauth2UserInfo.getId());
     user.setFullname(abstractOauth2UserInfo.getName());
-    user.setEmail(abstractOauth2UserInfo.getEmail());
+    user.setEmail(EmailUtils.canonicalize(abstractOauth2UserInfo.getEmail()));
     user.setAvatar(abstractOauth2UserInfo.getImageUrl());
     user.setLastVisit(LocalDateTime.now());
     user.setEmailVerified(true);
 
-    var userRole = roleRepository.findByValue(Roles.ROLE_USER).orElseThrow(
+    var userRole = roleRegistry.getRole(Roles.ROLE_USER).orElseThrow(
         () -> new ResourceNotFoundException(messageService.getMessage("role.error.not.found"))
     );
     var roles = Stream.of(userRole)
-        .collect(Collectors.toCollection(ArrayList::new));
+        .collect(Collectors.toCollection(HashSet::new));
     user.setRoles(roles);
 
     return userRepository.save(user);
@@ -130,7 +135,10 @@ public class CustomOauth2UserService extends DefaultOAuth2UserService {
                                   AbstractOauth2UserInfo abstractOauth2UserInfo) {
     existingUser.setFullname(abstractOauth2UserInfo.getName());
     existingUser.setAvatar(abstractOauth2UserInfo.getImageUrl());
-    existingUser.setLastVisit(LocalDateTime.now());
-    return userRepository.save(existingUser);
+
+    var user = userRepository.save(existingUser);
+    lastVisitService.recordVisit(user.getId());
+    userChangedPublisher.publish(user);
+    return user;
   }
 }
\ No newline at end of file
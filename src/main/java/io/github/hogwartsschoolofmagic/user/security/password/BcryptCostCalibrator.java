@@ -0,0 +1,63 @@
+package io.github.hogwartsschoolofmagic.user.security.password;
+
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * <p> A class for choosing the BCrypt cost for the current machine. The hashing time is measured
+ * at a low cost, and since each next cost doubles the time, the largest cost whose hashing does
+ * not exceed the target duration is calculated from it. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.12
+ */
+@Slf4j
+public final class BcryptCostCalibrator {
+
+  private static final int MIN_STRENGTH = 4;
+  private static final int MAX_STRENGTH = 31;
+  private static final int SAMPLE_STRENGTH = 8;
+  private static final int SAMPLES = 5;
+  private static final String SAMPLE_PASSWORD = "calibration-password";
+
+  private BcryptCostCalibrator() {
+  }
+
+  /**
+   * Method for calculating the BCrypt cost for the target hashing duration.
+   *
+   * @param target          target duration of hashing one password.
+   * @param currentStrength cost from the settings, reported for comparison.
+   * @return the largest cost whose hashing fits into the target duration.
+   */
+  public static int calibrate(Duration target, int currentStrength) {
+    var encoder = new BCryptPasswordEncoder(SAMPLE_STRENGTH);
+    // The first hash warms up the code, so it is not taken into account.
+    encoder.encode(SAMPLE_PASSWORD);
+
+    var best = Long.MAX_VALUE;
+    for (int i = 0; i < SAMPLES; i++) {
+      var start = System.nanoTime();
+      encoder.encode(SAMPLE_PASSWORD);
+      best = Math.min(best, System.nanoTime() - start);
+    }
+
+    var strength = SAMPLE_STRENGTH;
+    var estimate = best;
+    while (strength < MAX_STRENGTH && estimate * 2 <= target.toNanos()) {
+      strength++;
+      estimate *= 2;
+    }
+    while (strength > MIN_STRENGTH && estimate > target.toNanos()) {
+      strength--;
+      estimate /= 2;
+    }
+
+    log.info("BCrypt calibration: cost {} takes {} ms, cost {} is estimated at {} ms for the "
+            + "target of {} ms (configured cost is {}).", SAMPLE_STRENGTH,
+        Duration.ofNanos(best).toMillis(), strength, Duration.ofNanos(estimate).toMillis(),
+        target.toMillis(), currentStrength);
+    return strength;
+  }
+}
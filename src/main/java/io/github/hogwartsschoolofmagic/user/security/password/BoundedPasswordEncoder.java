@@ -0,0 +1,217 @@
+package io.github.hogwartsschoolofmagic.user.security.password;
+
+import io.github.hogwartsschoolofmagic.user.config.properties.HashingProperties;
+import io.github.hogwartsschoolofmagic.user.exception.server.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * <p> A password encoder that runs the hashing of the wrapped encoder on a separate pool of a
+ * limited size. Request threads only wait for the result, so a stream of logins cannot occupy all
+ * of them. Password checks at login are executed before hashing of new passwords. If the pool
+ * queue is full or the result is not received in time, the request is rejected with
+ * {@link ServiceOverloadedException}. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.11
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+  private static final String METRIC_PREFIX = "user.password.hashing";
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final Semaphore permits;
+  private final Duration maxWait;
+  private final AtomicLong sequence = new AtomicLong();
+  private final Timer loginWait;
+  private final Timer registrationWait;
+  private final Timer loginDuration;
+  private final Timer registrationDuration;
+  private final Counter rejected;
+
+  /**
+   * Creating an encoder with a pool configured from the application properties.
+   *
+   * @param delegate      encoder that hashes passwords.
+   * @param properties    pool settings.
+   * @param meterRegistry registry for publishing pool metrics.
+   */
+  public BoundedPasswordEncoder(PasswordEncoder delegate, HashingProperties properties,
+                                MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.maxWait = properties.getMaxWait();
+    this.permits = new Semaphore(properties.getPoolSize() + properties.getQueueCapacity());
+    this.executor = new ThreadPoolExecutor(properties.getPoolSize(), properties.getPoolSize(),
+        0L, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(),
+        new CustomizableThreadFactory("password-hashing-"));
+
+    meterRegistry.gauge(METRIC_PREFIX + ".queue", executor, pool -> pool.getQueue().size());
+    this.loginWait = timer(meterRegistry, ".wait", Operation.LOGIN);
+    this.registrationWait = timer(meterRegistry, ".wait", Operation.REGISTRATION);
+    this.loginDuration = timer(meterRegistry, ".duration", Operation.LOGIN);
+    this.registrationDuration = timer(meterRegistry, ".duration", Operation.REGISTRATION);
+    this.rejected = meterRegistry.counter(METRIC_PREFIX + ".rejected");
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return execute(Operation.REGISTRATION, () -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return execute(Operation.LOGIN, () -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  /**
+   * Method for stopping the pool when the application context is closed.
+   */
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Method for running the hashing on the pool and waiting for its result.
+   *
+   * @param operation type of hashing, which determines its priority.
+   * @param hashing   hashing itself.
+   * @param <T>       result type.
+   * @return hashing result.
+   * @throws ServiceOverloadedException pool is busy.
+   */
+  private <T> T execute(Operation operation, Callable<T> hashing)
+      throws ServiceOverloadedException {
+    if (!permits.tryAcquire()) {
+      throw reject(operation);
+    }
+
+    var task = new HashingTask<>(operation, sequence.getAndIncrement(), hashing);
+    try {
+      executor.execute(task);
+      return task.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      task.cancel(false);
+      throw reject(operation);
+    } catch (InterruptedException e) {
+      task.cancel(false);
+      Thread.currentThread().interrupt();
+      throw reject(operation);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      // A task that has not been started by the pool will not be started anymore.
+      if (task.claim()) {
+        permits.release();
+      }
+    }
+  }
+
+  private ServiceOverloadedException reject(Operation operation) {
+    rejected.increment();
+    log.warn("Password hashing for {} rejected: pool is busy.", operation);
+    return new ServiceOverloadedException(
+        "The server is busy processing passwords, please try again later.", maxWait);
+  }
+
+  private Timer timer(MeterRegistry meterRegistry, String name, Operation operation) {
+    return Timer.builder(METRIC_PREFIX + name)
+        .tag("operation", operation.name().toLowerCase())
+        .register(meterRegistry);
+  }
+
+  /**
+   * Type of hashing. The order of the constants is the order of priority.
+   */
+  private enum Operation {
+    LOGIN,
+    REGISTRATION
+  }
+
+  /**
+   * A hashing task ordered in the pool queue by priority and then by the time of creation.
+   *
+   * @param <T> result type.
+   */
+  private final class HashingTask<T> extends FutureTask<T>
+      implements Comparable<HashingTask<?>> {
+
+    private final Operation operation;
+    private final long order;
+    private final long createdAt = System.nanoTime();
+    private final AtomicBoolean claimed = new AtomicBoolean();
+
+    private HashingTask(Operation operation, long order, Callable<T> hashing) {
+      super(hashing);
+      this.operation = operation;
+      this.order = order;
+    }
+
+    @Override
+    public void run() {
+      if (!claim()) {
+        return;
+      }
+
+      var startedAt = System.nanoTime();
+      try {
+        (operation == Operation.LOGIN ? loginWait : registrationWait)
+            .record(startedAt - createdAt, TimeUnit.NANOSECONDS);
+        super.run();
+      } finally {
+        (operation == Operation.LOGIN ? loginDuration : registrationDuration)
+            .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        permits.release();
+      }
+    }
+
+    /**
+     * Method for taking the task either for execution or for abandoning it, whichever comes first.
+     *
+     * @return true if the task has been taken by the caller.
+     */
+    private boolean claim() {
+      return claimed.compareAndSet(false, true);
+    }
+
+    @Override
+    public int compareTo(HashingTask<?> other) {
+      var byOperation = operation.compareTo(other.operation);
+      return byOperation != 0 ? byOperation : Long.compare(order, other.order);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return this == other;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(this);
+    }
+  }
+}
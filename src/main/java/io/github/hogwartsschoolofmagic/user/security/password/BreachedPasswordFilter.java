@@ -0,0 +1,170 @@
+package io.github.hogwartsschoolofmagic.user.security.password;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.github.hogwartsschoolofmagic.user.config.properties.PasswordPolicyProperties;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p> Bloom filter of SHA-1 hashes of breached passwords. The filter file is memory-mapped, so its
+ * size does not count towards the heap and it is loaded without reading it. A password found in
+ * the filter is breached with a high probability, a password not found in it is not breached for
+ * sure. The filter file is built by {@link BreachedPasswordFilterBuilder}. </p>
+ *
+ * <p> The file consists of a header of {@value #HEADER_SIZE} bytes (the magic number, the format
+ * version, the number of hash functions, the number of bits and the number of entries) followed by
+ * the bits of the filter. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.21
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.password-policy", name = "breached-filter")
+public class BreachedPasswordFilter {
+
+  static final int MAGIC = 0x42504631;
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 32;
+
+  static final int SEGMENT_SHIFT = 30;
+  static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+  private static final ThreadLocal<MessageDigest> SHA1 = ThreadLocal.withInitial(() -> {
+    try {
+      return MessageDigest.getInstance("SHA-1");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  });
+
+  private final int hashCount;
+  private final long bitCount;
+  private final MappedByteBuffer[] segments;
+
+  /**
+   * Constructor for mapping the filter file from the settings into memory.
+   *
+   * @param properties password rules with the path to the filter file.
+   * @throws UncheckedIOException the filter file could not be read.
+   * @throws IllegalStateException the file is not a filter of breached passwords or its header
+   *     has no hash functions or no bits.
+   */
+  public BreachedPasswordFilter(PasswordPolicyProperties properties) {
+    var path = Path.of(properties.getBreachedFilter());
+    try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      var header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+      if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+        throw new IllegalStateException(path + " is not a breached password filter");
+      }
+      hashCount = header.getInt();
+      bitCount = header.getLong();
+      if (hashCount <= 0 || bitCount <= 0) {
+        throw new IllegalStateException(path + " has an invalid header: " + hashCount
+            + " hash functions, " + bitCount + " bits");
+      }
+
+      var byteCount = byteCount(bitCount);
+      if (channel.size() < HEADER_SIZE + byteCount) {
+        throw new IllegalStateException(path + " is truncated");
+      }
+      segments = map(channel, FileChannel.MapMode.READ_ONLY, byteCount);
+
+      var entryCount = header.getLong();
+      log.info("Breached password filter {} mapped: {} entries, {} MiB, false positive rate {}",
+          path, entryCount, byteCount >> 20,
+          String.format("%.2e", falsePositiveRate(hashCount, bitCount, entryCount)));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not map breached password filter " + path, e);
+    }
+  }
+
+  /**
+   * Method for checking whether the password may be in the breached password corpus.
+   *
+   * @param password password entered by the user.
+   * @return true if the password is breached with a high probability, false if it is not breached.
+   */
+  public boolean mightContain(String password) {
+    var sha1 = SHA1.get();
+    var digest = ByteBuffer.wrap(sha1.digest(password.getBytes(UTF_8)));
+    var h1 = digest.getLong(0);
+    var h2 = digest.getLong(Long.BYTES);
+
+    for (int i = 0; i < hashCount; i++) {
+      var bit = bitIndex(h1, h2, i, bitCount);
+      var index = bit >>> 3;
+      var value = segments[(int) (index >>> SEGMENT_SHIFT)].get((int) (index & SEGMENT_MASK));
+      if ((value & (1 << (bit & 7))) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Method for mapping the bits of the filter into memory in segments of 1 GiB.
+   *
+   * @param channel   channel of the filter file.
+   * @param mode      mapping mode.
+   * @param byteCount number of bytes holding the bits of the filter.
+   * @return mapped segments.
+   * @throws IOException the file could not be mapped.
+   */
+  static MappedByteBuffer[] map(FileChannel channel, FileChannel.MapMode mode, long byteCount)
+      throws IOException {
+    var segments = new MappedByteBuffer[(int) ((byteCount + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+    for (int i = 0; i < segments.length; i++) {
+      var position = (long) i << SEGMENT_SHIFT;
+      segments[i] = channel.map(mode, HEADER_SIZE + position,
+          Math.min(SEGMENT_MASK + 1, byteCount - position));
+    }
+    return segments;
+  }
+
+  /**
+   * Method for getting the position of the bit set by one of the hash functions.
+   *
+   * @param h1       first 8 bytes of the SHA-1 hash.
+   * @param h2       next 8 bytes of the SHA-1 hash.
+   * @param i        number of the hash function.
+   * @param bitCount number of bits in the filter.
+   * @return position of the bit.
+   */
+  static long bitIndex(long h1, long h2, int i, long bitCount) {
+    return Long.remainderUnsigned(h1 + i * h2, bitCount);
+  }
+
+  /**
+   * Method for getting the number of bytes holding the bits of the filter.
+   *
+   * @param bitCount number of bits in the filter.
+   * @return number of bytes.
+   */
+  static long byteCount(long bitCount) {
+    return (bitCount + 7) >>> 3;
+  }
+
+  /**
+   * Method for calculating the expected false positive rate of the filter.
+   *
+   * @param hashCount  number of hash functions.
+   * @param bitCount   number of bits in the filter.
+   * @param entryCount number of entries in the filter.
+   * @return probability of finding a password that is not in the corpus.
+   */
+  static double falsePositiveRate(int hashCount, long bitCount, long entryCount) {
+    return Math.pow(1 - Math.exp(-(double) hashCount * entryCount / bitCount), hashCount);
+  }
+}
@@ -0,0 +1,117 @@
+package io.github.hogwartsschoolofmagic.user.security.password;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HexFormat;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p> Command line tool for building the file of {@link BreachedPasswordFilter} from a list of
+ * SHA-1 hashes of breached passwords. Each line of the list starts with a hash in hexadecimal form,
+ * optionally followed by a colon and the number of occurrences, as in the "Pwned Passwords"
+ * downloads. </p>
+ *
+ * <p> Usage: {@code java -cp user-service.jar -Dloader.main=<this class>
+ * org.springframework.boot.loader.PropertiesLauncher <hash-list> <filter-file>
+ * [false-positive-rate]}. The default false positive rate is 0.001. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.21
+ */
+@Slf4j
+public final class BreachedPasswordFilterBuilder {
+
+  private static final double DEFAULT_FALSE_POSITIVE_RATE = 0.001;
+  private static final int SHA1_HEX_LENGTH = 40;
+
+  private BreachedPasswordFilterBuilder() {
+  }
+
+  /**
+   * Entry point of the tool.
+   *
+   * @param args path to the hash list, path to the filter file and the false positive rate.
+   * @throws IOException the hash list could not be read or the filter file could not be written.
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      throw new IllegalArgumentException(
+          "Usage: BreachedPasswordFilterBuilder <hash-list> <filter-file> [false-positive-rate]");
+    }
+    var rate = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_FALSE_POSITIVE_RATE;
+    build(Path.of(args[0]), Path.of(args[1]), rate);
+  }
+
+  /**
+   * Method for building the filter file.
+   *
+   * @param hashList          path to the list of SHA-1 hashes.
+   * @param filterFile        path to the filter file to be written.
+   * @param falsePositiveRate expected false positive rate of the filter.
+   * @throws IOException the hash list could not be read or the filter file could not be written.
+   */
+  public static void build(Path hashList, Path filterFile, double falsePositiveRate)
+      throws IOException {
+    var entryCount = 0L;
+    try (var lines = Files.lines(hashList, US_ASCII)) {
+      entryCount = lines.filter(line -> line.length() >= SHA1_HEX_LENGTH).count();
+    }
+    if (entryCount == 0) {
+      throw new IllegalArgumentException(hashList + " does not contain SHA-1 hashes");
+    }
+
+    var ln2 = Math.log(2);
+    var bitCount = (long) Math.ceil(-entryCount * Math.log(falsePositiveRate) / (ln2 * ln2));
+    var hashCount = Math.max(1, (int) Math.round((double) bitCount / entryCount * ln2));
+    var byteCount = BreachedPasswordFilter.byteCount(bitCount);
+
+    Files.deleteIfExists(filterFile);
+    try (var channel = FileChannel.open(filterFile, StandardOpenOption.CREATE_NEW,
+        StandardOpenOption.READ, StandardOpenOption.WRITE);
+         var reader = Files.newBufferedReader(hashList, US_ASCII)) {
+      var header = ByteBuffer.allocate(BreachedPasswordFilter.HEADER_SIZE)
+          .putInt(BreachedPasswordFilter.MAGIC)
+          .putInt(BreachedPasswordFilter.VERSION)
+          .putInt(hashCount)
+          .putLong(bitCount)
+          .putLong(entryCount)
+          .flip();
+      channel.write(header, 0);
+      writeBits(channel, reader, hashCount, bitCount, byteCount);
+      channel.force(true);
+    }
+
+    log.info("Breached password filter {} built: {} entries, {} hash functions, {} MiB, "
+            + "false positive rate {}", filterFile, entryCount, hashCount, byteCount >> 20,
+        String.format("%.2e",
+            BreachedPasswordFilter.falsePositiveRate(hashCount, bitCount, entryCount)));
+  }
+
+  private static void writeBits(FileChannel channel, BufferedReader reader, int hashCount,
+                                long bitCount, long byteCount) throws IOException {
+    var segments = BreachedPasswordFilter.map(channel, FileChannel.MapMode.READ_WRITE, byteCount);
+    var hex = HexFormat.of();
+    String line;
+    while ((line = reader.readLine()) != null) {
+      if (line.length() < SHA1_HEX_LENGTH) {
+        continue;
+      }
+      var h1 = hex.fromHexDigitsToLong(line, 0, 16);
+      var h2 = hex.fromHexDigitsToLong(line, 16, 32);
+      for (int i = 0; i < hashCount; i++) {
+        var bit = BreachedPasswordFilter.bitIndex(h1, h2, i, bitCount);
+        var index = bit >>> 3;
+        var segment = segments[(int) (index >>> BreachedPasswordFilter.SEGMENT_SHIFT)];
+        var offset = (int) (index & BreachedPasswordFilter.SEGMENT_MASK);
+        segment.put(offset, (byte) (segment.get(offset) | (1 << (bit & 7))));
+      }
+    }
+  }
+}
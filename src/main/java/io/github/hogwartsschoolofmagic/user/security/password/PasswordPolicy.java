@@ -0,0 +1,166 @@
+package io.github.hogwartsschoolofmagic.user.security.password;
+
+import io.github.hogwartsschoolofmagic.user.config.properties.PasswordPolicyProperties;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import org.passay.AlphabeticalCharacterRule;
+import org.passay.DigitCharacterRule;
+import org.passay.LengthRule;
+import org.passay.LowercaseCharacterRule;
+import org.passay.PasswordData;
+import org.passay.PasswordValidator;
+import org.passay.PropertiesMessageResolver;
+import org.passay.Rule;
+import org.passay.SpecialCharacterRule;
+import org.passay.UppercaseCharacterRule;
+import org.passay.WhitespaceRule;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p> Password rules built once from the settings. A password made only of visible ASCII
+ * characters is checked in a single pass without creating objects, and only a password that may
+ * break the rules is passed to the Passay validator to get the error messages. If
+ * {@link BreachedPasswordFilter} is configured, passwords from the breached password corpus are
+ * rejected too. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.20
+ */
+@Component
+public class PasswordPolicy {
+
+  private static final String BREACHED_MESSAGE = "BREACHED";
+
+  private final PasswordPolicyProperties properties;
+  private final PasswordValidator validator;
+  private final BreachedPasswordFilter breachedPasswordFilter;
+  private final String breachedMessage;
+
+  /**
+   * Constructor for creating the password rules and loading their messages.
+   *
+   * @param properties             password rules.
+   * @param resourceLoader         loader of the file with messages.
+   * @param breachedPasswordFilter filter of breached passwords, if configured.
+   * @throws IllegalStateException the file with messages could not be read.
+   */
+  public PasswordPolicy(PasswordPolicyProperties properties, ResourceLoader resourceLoader,
+                        ObjectProvider<BreachedPasswordFilter> breachedPasswordFilter) {
+    this.properties = properties;
+    this.breachedPasswordFilter = breachedPasswordFilter.getIfAvailable();
+
+    var messages = new Properties();
+    try (var inputStream = resourceLoader.getResource(properties.getMessages()).getInputStream()) {
+      messages.load(inputStream);
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          "Could not read password messages from " + properties.getMessages(), e);
+    }
+
+    this.validator = new PasswordValidator(new PropertiesMessageResolver(messages), createRules());
+    this.breachedMessage = messages.getProperty(BREACHED_MESSAGE, BREACHED_MESSAGE);
+  }
+
+  /**
+   * Method for quickly checking that the password follows all the rules.
+   *
+   * @param password password entered by the user.
+   * @return true if the password follows all the rules, false if it breaks them or has characters
+   *     that are not checked quickly.
+   */
+  public boolean isCompliant(String password) {
+    return followsRules(password) && !isBreached(password);
+  }
+
+  /**
+   * Method for getting the rules broken by the password. A password that passes
+   * {@link #isCompliant(String)} gets the shared empty list, so the common case creates no
+   * objects.
+   *
+   * @param password password entered by the user.
+   * @return list of error messages, empty if the password follows all the rules.
+   */
+  public List<String> getViolations(String password) {
+    if (isCompliant(password)) {
+      return List.of();
+    }
+
+    var violations = new ArrayList<String>();
+    if (!followsRules(password)) {
+      var result = validator.validate(new PasswordData(password));
+      if (!result.isValid()) {
+        violations.addAll(validator.getMessages(result));
+      }
+    }
+    if (isBreached(password)) {
+      violations.add(breachedMessage);
+    }
+    return violations;
+  }
+
+  private boolean isBreached(String password) {
+    return breachedPasswordFilter != null && password != null
+        && breachedPasswordFilter.mightContain(password);
+  }
+
+  private boolean followsRules(String password) {
+    if (password == null || password.length() < properties.getMinLength()
+        || password.length() > properties.getMaxLength()) {
+      return false;
+    }
+
+    int uppercase = 0;
+    int lowercase = 0;
+    int digits = 0;
+    int special = 0;
+    for (int i = 0; i < password.length(); i++) {
+      var c = password.charAt(i);
+      if (c >= 'A' && c <= 'Z') {
+        uppercase++;
+      } else if (c >= 'a' && c <= 'z') {
+        lowercase++;
+      } else if (c >= '0' && c <= '9') {
+        digits++;
+      } else if (c > ' ' && c <= '~') {
+        special++;
+      } else {
+        // Whitespace, control and non-ASCII characters are left to the Passay rules.
+        return false;
+      }
+    }
+
+    return uppercase >= properties.getMinUppercase()
+        && lowercase >= properties.getMinLowercase()
+        && digits >= properties.getMinDigits()
+        && special >= properties.getMinSpecial()
+        && uppercase + lowercase >= properties.getMinAlphabetical();
+  }
+
+  private List<Rule> createRules() {
+    var rules = new ArrayList<Rule>();
+    rules.add(new LengthRule(properties.getMinLength(), properties.getMaxLength()));
+    if (properties.getMinUppercase() > 0) {
+      rules.add(new UppercaseCharacterRule(properties.getMinUppercase()));
+    }
+    if (properties.getMinLowercase() > 0) {
+      rules.add(new LowercaseCharacterRule(properties.getMinLowercase()));
+    }
+    if (properties.getMinDigits() > 0) {
+      rules.add(new DigitCharacterRule(properties.getMinDigits()));
+    }
+    if (properties.getMinSpecial() > 0) {
+      rules.add(new SpecialCharacterRule(properties.getMinSpecial()));
+    }
+    if (properties.getMinAlphabetical() > 0) {
+      rules.add(new AlphabeticalCharacterRule(properties.getMinAlphabetical()));
+    }
+    if (!properties.isWhitespaceAllowed()) {
+      rules.add(new WhitespaceRule());
+    }
+    return List.copyOf(rules);
+  }
+}
\ No newline at end of file
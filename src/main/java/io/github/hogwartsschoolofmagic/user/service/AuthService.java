@@ -25,16 +25,19 @@ public interface AuthService {
 
   /**
    * Method for authenticating the logged in user and creating an authentication token for him.
+   * The user loaded during authentication is used for everything else, so the login reads the
+   * user only once.
    *
    * @param email    user authentication data: email.
    * @param password user authentication data: password.
-   * @throws ResourceNotFoundException no user found by email.
+   * @throws AuthenticationException invalid credentials or no user found by email.
    */
   String creatingTokenForAuthUser(String email, String password)
-      throws AuthenticationException, ResourceNotFoundException;
+      throws AuthenticationException;
 
   /**
-   * Method for registering a new user and storing it in the database.
+   * Method for registering a new user and storing it in the database. The verification letter is
+   * saved to the outbox in the same transaction.
    *
    * @param email    user registration data: email.
    * @param username user registration data: username.
@@ -0,0 +1,23 @@
+package io.github.hogwartsschoolofmagic.user.service;
+
+/**
+ * <p> Interface for recording the time of the last user visit. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.13
+ */
+public interface LastVisitService {
+
+  /**
+   * Recording that the user has visited the service just now. The time is written to the database
+   * later, together with the visits of other users.
+   *
+   * @param userId user ID.
+   */
+  void recordVisit(Long userId);
+
+  /**
+   * Writing all recorded visits to the database.
+   */
+  void flush();
+}
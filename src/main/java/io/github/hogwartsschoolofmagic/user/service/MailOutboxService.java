@@ -0,0 +1,27 @@
+package io.github.hogwartsschoolofmagic.user.service;
+
+import java.util.Locale;
+
+/**
+ * <p> Interface for saving letters to the outbox and sending them in the background. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.15
+ */
+public interface MailOutboxService {
+
+  /**
+   * Saving a verification letter to the outbox. When called in the transaction that saves the
+   * verification token, the letter is saved only together with it.
+   *
+   * @param toEmail where we send.
+   * @param token   verification token issued to the user to verify email.
+   * @param locale  language of the letter.
+   */
+  void enqueueVerifiedMessage(String toEmail, String token, Locale locale);
+
+  /**
+   * Sending the letters whose time to be sent has come.
+   */
+  void dispatch();
+}
@@ -1,6 +1,10 @@
 package io.github.hogwartsschoolofmagic.user.service;
 
 import io.github.hogwartsschoolofmagic.user.exception.email.FailureSendEmailException;
+import java.util.List;
+import java.util.Locale;
+import javax.mail.internet.MimeMessage;
+import org.springframework.mail.MailSendException;
 
 /**
  * <p> Interface for working with sending letters to email. </p>
@@ -18,4 +22,37 @@ public interface MailService {
    * @throws FailureSendEmailException unsuccessful email message sending.
    */
   void sendVerifiedMessage(String toEmail, String token) throws FailureSendEmailException;
+
+  /**
+   * Method for sending verification email in the specified language. Does not depend on the
+   * current user session, so it can be called from background tasks.
+   *
+   * @param toEmail where we send.
+   * @param token   verification token issued to the user to verify email.
+   * @param locale  language of the letter.
+   * @throws FailureSendEmailException unsuccessful email message sending.
+   */
+  void sendVerifiedMessage(String toEmail, String token, Locale locale)
+      throws FailureSendEmailException;
+
+  /**
+   * Method for creating a verification letter without sending it, so that it can be sent
+   * together with other letters.
+   *
+   * @param toEmail where we send.
+   * @param token   verification token issued to the user to verify email.
+   * @param locale  language of the letter.
+   * @return created letter.
+   * @throws FailureSendEmailException unsuccessful creation of the letter.
+   */
+  MimeMessage prepareVerifiedMessage(String toEmail, String token, Locale locale)
+      throws FailureSendEmailException;
+
+  /**
+   * Method for sending several letters over one connection to the mail server.
+   *
+   * @param messages letters to send.
+   * @throws MailSendException the letters that were not sent, by the letter itself.
+   */
+  void send(List<MimeMessage> messages) throws MailSendException;
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package io.github.hogwartsschoolofmagic.user.service;
 
+import java.util.Locale;
 
 /**
  * <p> Interface for working with localization of messages on the server. </p>
@@ -10,11 +11,11 @@ package io.github.hogwartsschoolofmagic.user.service;
 public interface MessageService {
 
   /**
-   * Setting the user's language.
+   * Getting the language of the current request.
    *
-   * @param language current user's language.
+   * @return current user's language.
    */
-  void setLocale(String language);
+  Locale getLocale();
 
   /**
    * Getting a localized message.
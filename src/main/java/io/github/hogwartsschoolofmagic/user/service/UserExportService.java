@@ -0,0 +1,28 @@
+package io.github.hogwartsschoolofmagic.user.service;
+
+import io.github.hogwartsschoolofmagic.user.enumeration.UserFileFormat;
+import io.github.hogwartsschoolofmagic.user.persistence.model.export.UserExportFilter;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * <p> Interface for the export of users. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.26
+ */
+public interface UserExportService {
+
+  /**
+   * Exporting users to a file. The users are read from a database cursor and written to the
+   * stream one by one, in the order of their ids.
+   *
+   * @param filter export conditions.
+   * @param format file format.
+   * @param output output stream of the file, is not closed.
+   * @return number of exported users.
+   * @throws IOException the file could not be written.
+   */
+  long exportUsers(UserExportFilter filter, UserFileFormat format, OutputStream output)
+      throws IOException;
+}
\ No newline at end of file
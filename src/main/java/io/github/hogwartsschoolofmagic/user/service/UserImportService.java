@@ -0,0 +1,46 @@
+package io.github.hogwartsschoolofmagic.user.service;
+
+import io.github.hogwartsschoolofmagic.user.enumeration.UserFileFormat;
+import io.github.hogwartsschoolofmagic.user.service.imports.UserImportReport;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * <p> Interface for the bulk import of users. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.25
+ */
+public interface UserImportService {
+
+  /**
+   * Starting an import of users from a file. The file is saved to a temporary file and imported
+   * by a separate thread: the file is read as a stream, the passwords are hashed in parallel and
+   * the users are saved in batches. Each saved user gets a verification letter through the
+   * outbox.
+   *
+   * @param input  file contents.
+   * @param format file format.
+   * @return report of the queued import, whose progress is available by its id.
+   * @throws IOException the file could not be received.
+   */
+  UserImportReport submitImport(InputStream input, UserFileFormat format) throws IOException;
+
+  /**
+   * Getting the progress of the running and recently finished imports.
+   *
+   * @return import reports, the latest last.
+   */
+  List<UserImportReport> getImports();
+
+  /**
+   * Getting the progress of an import.
+   *
+   * @param id import id.
+   * @return optional with the import report, empty if the import is unknown.
+   */
+  Optional<UserImportReport> getImport(UUID id);
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package io.github.hogwartsschoolofmagic.user.service;
+
+import io.github.hogwartsschoolofmagic.user.enumeration.Roles;
+import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
+import java.util.Set;
+
+/**
+ * <p> Interface for changing the roles of users by the administrator. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.6
+ */
+public interface UserRoleService {
+
+  /**
+   * Replacing the roles of a user. When the roles change, the version of the user's rights is
+   * increased, so the tokens issued before are no longer accepted, and all service instances are
+   * notified about the change.
+   *
+   * @param userId user ID.
+   * @param roles  new roles of the user.
+   * @return user with the new roles.
+   */
+  User setRoles(Long userId, Set<Roles> roles);
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package io.github.hogwartsschoolofmagic.user.service;
+
+import io.github.hogwartsschoolofmagic.user.persistence.model.search.UserSearchPage;
+
+/**
+ * <p> Interface for searching users by the administrator. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.27
+ */
+public interface UserSearchService {
+
+  /**
+   * Searching users whose full name, username or email contains the query.
+   *
+   * @param query  substring to search for, all users if empty.
+   * @param cursor position of the page from the previous response, null for the first page.
+   * @param size   number of users on the page.
+   * @return page of found users, the newest first.
+   */
+  UserSearchPage searchUsers(String query, String cursor, int size);
+}
\ No newline at end of file
@@ -3,6 +3,8 @@ package io.github.hogwartsschoolofmagic.user.service;
 import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
 import io.github.hogwartsschoolofmagic.user.persistence.model.user.UserSetting;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 
 /**
  * <p> Interface for working with user setting entity. </p>
@@ -37,4 +39,12 @@ public interface UserSettingService {
    * @return updated setting for a specific user application.
    */
   UserSetting update(UserSetting userSettingFromDb, UserSetting userSetting);
+
+  /**
+   * Getting the language chosen by the user in his "locale" setting.
+   *
+   * @param userId user id.
+   * @return optional with the supported language, empty if the user has not chosen it.
+   */
+  Optional<Locale> getLocale(Long userId);
 }
\ No newline at end of file
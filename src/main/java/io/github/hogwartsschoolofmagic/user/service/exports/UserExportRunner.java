@@ -0,0 +1,79 @@
+package io.github.hogwartsschoolofmagic.user.service.exports;
+
+import io.github.hogwartsschoolofmagic.user.enumeration.AuthProvider;
+import io.github.hogwartsschoolofmagic.user.enumeration.UserFileFormat;
+import io.github.hogwartsschoolofmagic.user.persistence.model.base.BaseStatus;
+import io.github.hogwartsschoolofmagic.user.persistence.model.export.UserExportFilter;
+import io.github.hogwartsschoolofmagic.user.service.UserExportService;
+import java.io.BufferedOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p> Command line mode of the export of users. When the application is started with the
+ * {@code --export-users=<file>} option, the users are exported to the file and the application
+ * stops. The standard output is not supported, since the logs and the banner are written there.
+ * </p>
+ *
+ * <p> Usage: {@code java -jar user-service.jar --spring.main.web-application-type=none
+ * --export-users=users.ndjson [--export-format=CSV|NDJSON] [--export-status=ACTIVE|DELETED]
+ * [--export-provider=LOCAL|GOOGLE] [--export-created-from=2022-01-01T00:00:00]
+ * [--export-created-to=2023-01-01T00:00:00] [--export-after=<id>] [--export-roles]
+ * [--export-settings]}. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.26
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty("export-users")
+public class UserExportRunner implements ApplicationRunner {
+
+  private final UserExportService userExportService;
+  private final ConfigurableApplicationContext context;
+
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    var format = option(args, "export-format", value ->
+        UserFileFormat.valueOf(value.toUpperCase(Locale.ROOT)));
+    var filter = new UserExportFilter(
+        option(args, "export-status", BaseStatus::valueOf),
+        option(args, "export-provider", AuthProvider::valueOf),
+        option(args, "export-created-from", LocalDateTime::parse),
+        option(args, "export-created-to", LocalDateTime::parse),
+        option(args, "export-after", Long::valueOf),
+        args.containsOption("export-roles"),
+        args.containsOption("export-settings"));
+
+    var file = option(args, "export-users", Function.identity());
+    long count;
+    try (var output = new BufferedOutputStream(Files.newOutputStream(Path.of(file)))) {
+      count = userExportService.exportUsers(filter,
+          format == null ? UserFileFormat.NDJSON : format, output);
+    }
+
+    log.info("Exported {} users to {}", count, file);
+    System.exit(SpringApplication.exit(context));
+  }
+
+  private static <T> T option(ApplicationArguments args, String name, Function<String, T> parser) {
+    List<String> values = args.getOptionValues(name);
+    if (values == null || values.isEmpty()) {
+      return null;
+    }
+    return parser.apply(values.get(0));
+  }
+}
\ No newline at end of file
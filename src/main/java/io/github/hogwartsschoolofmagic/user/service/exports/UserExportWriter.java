@@ -0,0 +1,166 @@
+package io.github.hogwartsschoolofmagic.user.service.exports;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hogwartsschoolofmagic.user.enumeration.UserFileFormat;
+import io.github.hogwartsschoolofmagic.user.persistence.model.export.UserExportFilter;
+import io.github.hogwartsschoolofmagic.user.persistence.model.export.UserExportRow;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p> Writer of the file with exported users. Each user is written as soon as it is read, so
+ * only the current user is kept in memory. Closing the writer flushes it, but does not close the
+ * output stream. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.26
+ */
+public class UserExportWriter implements Closeable {
+
+  private static final DateTimeFormatter DATE_FORMAT =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+  /**
+   * First characters that make a spreadsheet evaluate a cell as a formula.
+   */
+  private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+  private final Writer writer;
+  private final UserFileFormat format;
+  private final UserExportFilter filter;
+  private final ObjectMapper objectMapper;
+  private final JsonGenerator generator;
+
+  /**
+   * Constructor for creating a writer of the file.
+   *
+   * @param output       output stream of the file.
+   * @param format       file format.
+   * @param filter       export conditions, defining the written columns.
+   * @param objectMapper mapper for writing JSON.
+   * @throws IOException the writer could not be created.
+   */
+  public UserExportWriter(OutputStream output, UserFileFormat format, UserExportFilter filter,
+                          ObjectMapper objectMapper) throws IOException {
+    this.writer = new BufferedWriter(new OutputStreamWriter(output, UTF_8));
+    this.format = format;
+    this.filter = filter;
+    this.objectMapper = objectMapper;
+    this.generator = objectMapper.getFactory().createGenerator(writer)
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+  }
+
+  /**
+   * Method for writing the beginning of the file. For CSV the header is written.
+   *
+   * @throws IOException the file could not be written.
+   */
+  public void open() throws IOException {
+    if (format != UserFileFormat.CSV) {
+      return;
+    }
+
+    var header = new ArrayList<>(List.of("id", "created", "status", "fullname", "email",
+        "email_verified", "auth_provider", "last_visit"));
+    if (filter.roles()) {
+      header.add("roles");
+    }
+    if (filter.settings()) {
+      header.add("settings");
+    }
+    writer.write(String.join(",", header));
+    writer.write('\n');
+  }
+
+  /**
+   * Method for writing a user.
+   *
+   * @param row user data.
+   * @throws IOException the file could not be written.
+   */
+  public void write(UserExportRow row) throws IOException {
+    if (format == UserFileFormat.CSV) {
+      writeCsv(row);
+    } else {
+      generator.writeObject(row);
+      generator.flush();
+      writer.write('\n');
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    generator.close();
+    writer.flush();
+  }
+
+  private void writeCsv(UserExportRow row) throws IOException {
+    writer.write(String.valueOf(row.id()));
+    writer.write(',');
+    writer.write(format(row.created()));
+    writer.write(',');
+    writer.write(row.status().name());
+    writer.write(',');
+    writeCsvValue(row.fullname());
+    writer.write(',');
+    writeCsvValue(row.email());
+    writer.write(',');
+    writer.write(String.valueOf(row.emailVerified()));
+    writer.write(',');
+    writer.write(row.authProvider().name());
+    writer.write(',');
+    writer.write(format(row.lastVisit()));
+    if (filter.roles()) {
+      writer.write(',');
+      writeCsvValue(String.join(";", row.roles()));
+    }
+    if (filter.settings()) {
+      writer.write(',');
+      writeCsvValue(objectMapper.writeValueAsString(row.settings()));
+    }
+    writer.write('\n');
+  }
+
+  /**
+   * Writing a text value of a CSV column. A value that a spreadsheet would treat as a formula is
+   * prefixed with an apostrophe, since the names of the users are entered by the users themselves.
+   *
+   * @param value column value.
+   * @throws IOException the file could not be written.
+   */
+  private void writeCsvValue(String value) throws IOException {
+    if (value == null) {
+      return;
+    }
+
+    var formula = !value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0;
+    if (!formula && value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+        && value.indexOf('\r') < 0) {
+      writer.write(value);
+      return;
+    }
+
+    writer.write('"');
+    if (formula) {
+      writer.write('\'');
+    }
+    writer.write(value.replace("\"", "\"\""));
+    writer.write('"');
+  }
+
+  private static String format(LocalDateTime date) {
+    return date == null ? "" : DATE_FORMAT.format(date);
+  }
+}
\ No newline at end of file
@@ -2,25 +2,30 @@ package io.github.hogwartsschoolofmagic.user.service.impl;
 
 import io.github.hogwartsschoolofmagic.user.enumeration.AuthProvider;
 import io.github.hogwartsschoolofmagic.user.enumeration.Roles;
+import io.github.hogwartsschoolofmagic.user.event.OnRegistrationCompleteEvent;
+import io.github.hogwartsschoolofmagic.user.event.publisher.UserChangedPublisher;
 import io.github.hogwartsschoolofmagic.user.exception.resource.ResourceAlreadyExistException;
 import io.github.hogwartsschoolofmagic.user.exception.resource.ResourceNotFoundException;
-import io.github.hogwartsschoolofmagic.user.persistence.dao.RoleRepository;
 import io.github.hogwartsschoolofmagic.user.persistence.dao.UserRepository;
 import io.github.hogwartsschoolofmagic.user.persistence.dao.VerificationTokenRepository;
 import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
 import io.github.hogwartsschoolofmagic.user.persistence.model.user.VerificationToken;
+import io.github.hogwartsschoolofmagic.user.security.RoleRegistry;
 import io.github.hogwartsschoolofmagic.user.security.TokenProvider;
 import io.github.hogwartsschoolofmagic.user.security.UserPrincipal;
 import io.github.hogwartsschoolofmagic.user.service.AuthService;
+import io.github.hogwartsschoolofmagic.user.service.LastVisitService;
 import io.github.hogwartsschoolofmagic.user.service.MessageService;
+import io.github.hogwartsschoolofmagic.user.util.EmailUtils;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -41,12 +46,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthServiceImpl implements AuthService {
 
   private final UserRepository userRepository;
-  private final RoleRepository roleRepository;
+  private final RoleRegistry roleRegistry;
   private final VerificationTokenRepository tokenRepository;
   private final MessageService messageService;
   private final PasswordEncoder passwordEncoder;
   private final AuthenticationManager authenticationManager;
   private final TokenProvider tokenProvider;
+  private final UserChangedPublisher userChangedPublisher;
+  private final LastVisitService lastVisitService;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   public User getCurrentUser(UserPrincipal currentUser) {
@@ -63,39 +71,35 @@ public class AuthServiceImpl implements AuthService {
         new UsernamePasswordAuthenticationToken(email, password)
     );
 
-    var user = userRepository.findByEmail(email)
-        .orElseThrow(() -> new ResourceNotFoundException(messageService.getMessageWithArgs(
-            "user.error.not.found.by.email",
-            new Object[] {email}
-        )));
-
-    user.setLastVisit(LocalDateTime.now());
-    userRepository.save(user);
+    var principal = (UserPrincipal) authentication.getPrincipal();
+    lastVisitService.recordVisit(principal.getUser().getId());
     SecurityContextHolder.getContext().setAuthentication(authentication);
     return tokenProvider.createToken(authentication);
   }
 
   @Override
   public User registerNewUserAccount(String email, String username, String password) {
-    if (userRepository.existsByEmail(email)) {
-      throw new ResourceAlreadyExistException(messageService.getMessageWithArgs(
-          "user.error.exist.email",
-          new Object[] {email}
-      ));
+    var canonicalEmail = EmailUtils.canonicalize(email);
+    if (userRepository.existsByEmail(canonicalEmail)) {
+      throw emailAlreadyExists(email);
     }
 
     var user = new User();
     user.setFullname(username);
     user.setEmailVerified(false);
-    user.setEmail(email);
+    user.setEmail(canonicalEmail);
     user.setAuthProvider(AuthProvider.LOCAL);
     user.setPassword(passwordEncoder.encode(password));
-    var userRole = roleRepository.findByValue(Roles.ROLE_USER)
+    var userRole = roleRegistry.getRole(Roles.ROLE_USER)
         .orElseThrow(() -> new ResourceNotFoundException(messageService.getMessageWithArgs(
             "role.error.not.found.by.name", new Object[] {Roles.ROLE_USER.getName()}
         )));
-    user.setRoles(Stream.of(userRole).collect(Collectors.toCollection(ArrayList::new)));
-    return userRepository.save(user);
+    user.setRoles(Stream.of(userRole).collect(Collectors.toCollection(HashSet::new)));
+
+    var registered = userRepository.insertIfEmailAbsent(user)
+        .orElseThrow(() -> emailAlreadyExists(email));
+    eventPublisher.publishEvent(new OnRegistrationCompleteEvent(registered, ""));
+    return registered;
   }
 
   @Override
@@ -125,6 +129,11 @@ public class AuthServiceImpl implements AuthService {
 
   @Override
   public void saveRegisteredUser(User user) {
-    userRepository.save(user);
+    userChangedPublisher.publish(userRepository.save(user));
+  }
+
+  private ResourceAlreadyExistException emailAlreadyExists(String email) {
+    return new ResourceAlreadyExistException(messageService.getMessageWithArgs(
+        "user.error.exist.email", new Object[] {email}));
   }
 }
\ No newline at end of file
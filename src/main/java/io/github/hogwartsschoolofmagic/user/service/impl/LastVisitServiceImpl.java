@@ -0,0 +1,107 @@
+package io.github.hogwartsschoolofmagic.user.service.impl;
+
+import io.github.hogwartsschoolofmagic.user.config.properties.LastVisitProperties;
+import io.github.hogwartsschoolofmagic.user.service.LastVisitService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * <p> Service class (implementation) that keeps the latest visit of each user in memory and
+ * periodically writes them to the database in batches, so that a login does not update the whole
+ * user row. Visits that were not written are written when the application stops. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.13
+ */
+@Slf4j
+@Service
+public class LastVisitServiceImpl implements LastVisitService {
+
+  private static final String UPDATE_LAST_VISIT =
+      "UPDATE users SET last_visit_date = ? WHERE base_id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final LastVisitProperties properties;
+  private final Map<Long, LocalDateTime> pendingVisits = new ConcurrentHashMap<>();
+  private final DistributionSummary batchSize;
+  private final Timer flushLatency;
+
+  /**
+   * Creating a service with metrics of the size and duration of writing the visits.
+   *
+   * @param jdbcTemplate  template for executing statements.
+   * @param properties    settings for writing the visits.
+   * @param meterRegistry registry for publishing metrics.
+   */
+  public LastVisitServiceImpl(JdbcTemplate jdbcTemplate, LastVisitProperties properties,
+                              MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.properties = properties;
+    this.batchSize = DistributionSummary.builder("user.last.visit.batch.size")
+        .description("Number of users whose last visit is written at once")
+        .register(meterRegistry);
+    this.flushLatency = Timer.builder("user.last.visit.flush")
+        .description("Time spent writing the last visits to the database")
+        .register(meterRegistry);
+    meterRegistry.gaugeMapSize("user.last.visit.pending", List.of(), pendingVisits);
+  }
+
+  @Override
+  public void recordVisit(Long userId) {
+    pendingVisits.merge(userId, LocalDateTime.now(), LastVisitServiceImpl::latest);
+  }
+
+  @Override
+  public void flush() {
+    if (pendingVisits.isEmpty()) {
+      return;
+    }
+
+    var visits = new ArrayList<Object[]>(pendingVisits.size());
+    for (var userId : pendingVisits.keySet()) {
+      var visit = pendingVisits.remove(userId);
+      if (visit != null) {
+        visits.add(new Object[] {Timestamp.valueOf(visit), userId});
+      }
+    }
+
+    flushLatency.record(() -> {
+      for (int from = 0; from < visits.size(); from += properties.getBatchSize()) {
+        var batch = visits.subList(from, Math.min(from + properties.getBatchSize(),
+            visits.size()));
+        try {
+          jdbcTemplate.batchUpdate(UPDATE_LAST_VISIT, batch);
+          batchSize.record(batch.size());
+        } catch (RuntimeException e) {
+          log.error("Could not write the last visit of {} users, retrying later.",
+              batch.size(), e);
+          batch.forEach(visit -> pendingVisits.merge((Long) visit[1],
+              ((Timestamp) visit[0]).toLocalDateTime(), LastVisitServiceImpl::latest));
+        }
+      }
+    });
+  }
+
+  /**
+   * Writing the remaining visits before the application stops.
+   */
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  private static LocalDateTime latest(LocalDateTime left, LocalDateTime right) {
+    return left.isAfter(right) ? left : right;
+  }
+}
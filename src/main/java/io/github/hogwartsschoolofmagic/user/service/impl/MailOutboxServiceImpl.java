@@ -0,0 +1,235 @@
+package io.github.hogwartsschoolofmagic.user.service.impl;
+
+import io.github.hogwartsschoolofmagic.user.config.properties.MailOutboxProperties;
+import io.github.hogwartsschoolofmagic.user.enumeration.MailDeliveryStatus;
+import io.github.hogwartsschoolofmagic.user.persistence.dao.MailOutboxRepository;
+import io.github.hogwartsschoolofmagic.user.persistence.model.mail.MailOutboxMessage;
+import io.github.hogwartsschoolofmagic.user.service.MailOutboxService;
+import io.github.hogwartsschoolofmagic.user.service.MailService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailSendException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * <p> Service class (implementation) for the outbox of letters. Letters are claimed in batches,
+ * so several service instances can send them at the same time, and are sent outside of the
+ * database transaction. An unsuccessful letter is repeated with a growing delay, and after the
+ * allowed number of attempts is marked as dead. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.15
+ */
+@Slf4j
+@Service
+public class MailOutboxServiceImpl implements MailOutboxService {
+
+  private static final String METRIC_PREFIX = "user.mail.outbox";
+  private static final int MAX_ERROR_LENGTH = 1024;
+
+  private final MailOutboxRepository outboxRepository;
+  private final MailService mailService;
+  private final MailOutboxProperties properties;
+  private final TransactionTemplate transactionTemplate;
+  private final AtomicLong pending = new AtomicLong();
+  private final Counter sent;
+  private final Counter failed;
+  private final Counter dead;
+  private final Timer deliveryLatency;
+
+  /**
+   * Creating a service with metrics of the outbox.
+   *
+   * @param outboxRepository   repository of the letters.
+   * @param mailService        service for sending letters.
+   * @param properties         outbox settings.
+   * @param transactionManager manager for transactions of sending batches.
+   * @param meterRegistry      registry for publishing metrics.
+   */
+  public MailOutboxServiceImpl(MailOutboxRepository outboxRepository, MailService mailService,
+                               MailOutboxProperties properties,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+    this.outboxRepository = outboxRepository;
+    this.mailService = mailService;
+    this.properties = properties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    meterRegistry.gauge(METRIC_PREFIX + ".pending", pending);
+    this.sent = meterRegistry.counter(METRIC_PREFIX + ".attempts", "outcome", "sent");
+    this.failed = meterRegistry.counter(METRIC_PREFIX + ".attempts", "outcome", "failed");
+    this.dead = meterRegistry.counter(METRIC_PREFIX + ".attempts", "outcome", "dead");
+    this.deliveryLatency = Timer.builder(METRIC_PREFIX + ".delivery.latency")
+        .description("Time from saving a letter to the outbox to sending it")
+        .register(meterRegistry);
+  }
+
+  @Override
+  @Transactional
+  public void enqueueVerifiedMessage(String toEmail, String token, Locale locale) {
+    var message = new MailOutboxMessage();
+    message.setRecipient(toEmail);
+    message.setToken(token);
+    message.setLocale(locale.toLanguageTag());
+    message.setNextAttempt(LocalDateTime.now());
+    outboxRepository.save(message);
+  }
+
+  @Override
+  public void dispatch() {
+    int processed;
+    do {
+      processed = dispatchBatch();
+    } while (processed == properties.getBatchSize());
+
+    pending.set(outboxRepository.countByDeliveryStatus(MailDeliveryStatus.PENDING));
+  }
+
+  /**
+   * Method for sending one batch of letters over one connection. The letters are claimed in a
+   * short transaction and sent outside of it, so no row locks or database connections are held
+   * while the mail server answers. The outcome is saved in a second short transaction.
+   *
+   * @return number of processed letters.
+   */
+  private int dispatchBatch() {
+    List<MailOutboxMessage> messages = transactionTemplate.execute(status -> claimDueMessages());
+    if (messages.isEmpty()) {
+      return 0;
+    }
+
+    var letters = new IdentityHashMap<MimeMessage, MailOutboxMessage>();
+    var failures = new HashMap<Long, Exception>();
+    for (var message : messages) {
+      try {
+        letters.put(mailService.prepareVerifiedMessage(message.getRecipient(),
+            message.getToken(), Locale.forLanguageTag(message.getLocale())), message);
+      } catch (RuntimeException e) {
+        failures.put(message.getId(), e);
+      }
+    }
+
+    Map<Object, Exception> failedLetters = Map.of();
+    try {
+      mailService.send(new ArrayList<>(letters.keySet()));
+    } catch (MailSendException e) {
+      failedLetters = e.getFailedMessages().isEmpty() ? failAll(letters, e) : e.getFailedMessages();
+    } catch (RuntimeException e) {
+      failedLetters = failAll(letters, e);
+    }
+    for (var letter : letters.entrySet()) {
+      var error = failedLetters.get(letter.getKey());
+      if (error != null) {
+        failures.put(letter.getValue().getId(), error);
+      }
+    }
+
+    transactionTemplate.executeWithoutResult(status -> saveOutcome(messages, failures));
+    return messages.size();
+  }
+
+  /**
+   * Method for claiming the letters whose time to be sent has come. The attempt is counted and
+   * the next attempt is scheduled before sending, so another service instance does not take the
+   * letters while they are being sent, and a letter is retried later if the instance stops.
+   *
+   * @return claimed letters.
+   */
+  private List<MailOutboxMessage> claimDueMessages() {
+    var messages = outboxRepository.lockDueMessages(LocalDateTime.now(),
+        properties.getBatchSize());
+    for (var message : messages) {
+      message.setAttempts(message.getAttempts() + 1);
+      message.setNextAttempt(LocalDateTime.now().plus(backoff(message.getAttempts())));
+    }
+    return messages;
+  }
+
+  /**
+   * Method for saving the outcome of sending the claimed letters.
+   *
+   * @param messages claimed letters.
+   * @param failures sending errors by the ids of the unsuccessful letters.
+   */
+  private void saveOutcome(List<MailOutboxMessage> messages, Map<Long, Exception> failures) {
+    var ids = messages.stream().map(MailOutboxMessage::getId).toList();
+    for (var message : outboxRepository.findAllById(ids)) {
+      var error = failures.get(message.getId());
+      if (error != null) {
+        registerFailure(message, error);
+      } else {
+        registerDelivery(message);
+      }
+    }
+  }
+
+  private static Map<Object, Exception> failAll(Map<MimeMessage, MailOutboxMessage> letters,
+                                                Exception error) {
+    var failedLetters = new IdentityHashMap<Object, Exception>();
+    letters.keySet().forEach(letter -> failedLetters.put(letter, error));
+    return failedLetters;
+  }
+
+  /**
+   * Method for marking a letter as sent.
+   *
+   * @param message sent letter.
+   */
+  private void registerDelivery(MailOutboxMessage message) {
+    message.setDeliveryStatus(MailDeliveryStatus.SENT);
+    message.setLastError(null);
+    sent.increment();
+    deliveryLatency.record(Duration.between(message.getCreated(), LocalDateTime.now()));
+  }
+
+  /**
+   * Method for scheduling the next attempt of an unsuccessful letter or marking it as dead.
+   *
+   * @param message unsuccessful letter.
+   * @param error   sending error.
+   */
+  private void registerFailure(MailOutboxMessage message, Exception error) {
+    var description = String.valueOf(error.getMessage());
+    message.setLastError(description.length() > MAX_ERROR_LENGTH
+        ? description.substring(0, MAX_ERROR_LENGTH) : description);
+
+    if (message.getAttempts() >= properties.getMaxAttempts()) {
+      message.setDeliveryStatus(MailDeliveryStatus.DEAD);
+      dead.increment();
+      log.error("Letter {} to {} is dead after {} attempts.", message.getId(),
+          message.getRecipient(), message.getAttempts(), error);
+      return;
+    }
+
+    var backoff = backoff(message.getAttempts());
+    message.setNextAttempt(LocalDateTime.now().plus(backoff));
+    failed.increment();
+    log.warn("Letter {} to {} was not sent, next attempt in {}.", message.getId(),
+        message.getRecipient(), backoff, error);
+  }
+
+  /**
+   * Method for getting the delay before the attempt following the given one.
+   *
+   * @param attempts number of attempts made.
+   * @return delay before the next attempt.
+   */
+  private Duration backoff(int attempts) {
+    var backoff = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 30));
+    return backoff.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : backoff;
+  }
+}
\ No newline at end of file
@@ -1,19 +1,21 @@
 package io.github.hogwartsschoolofmagic.user.service.impl;
 
 import io.github.hogwartsschoolofmagic.user.exception.email.FailureSendEmailException;
+import io.github.hogwartsschoolofmagic.user.mail.ConfirmationEmailRenderer;
+import io.github.hogwartsschoolofmagic.user.mail.SmtpConnectionPool;
 import io.github.hogwartsschoolofmagic.user.service.MailService;
 import io.github.hogwartsschoolofmagic.user.service.MessageService;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.Locale;
 import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Scope;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring5.SpringTemplateEngine;
 
 /**
  * <p> Service class (implementation) for working with sending letters to email. </p>
@@ -28,46 +30,46 @@ import org.thymeleaf.spring5.SpringTemplateEngine;
 public class MailServiceImpl implements MailService {
 
   private final MessageService messageService;
+  private final MessageSource messages;
   private final JavaMailSender mailSender;
-  private final SpringTemplateEngine thymeleafTemplateEngine;
+  private final ConfirmationEmailRenderer confirmationEmailRenderer;
+  private final SmtpConnectionPool smtpConnectionPool;
 
   @Override
   public void sendVerifiedMessage(String toEmail, String token) {
-    var templateModel = new HashMap<String, Object>();
-    templateModel.put("text", messageService.getMessage("email.registration.confirmation.text"));
-    templateModel
-        .put("urlName", messageService.getMessage("email.registration.confirmation.url.name"));
-    templateModel.put("token", token);
+    sendVerifiedMessage(toEmail, token, messageService.getLocale());
+  }
 
-    sendMessageUsingThymeleafTemplate(
-        toEmail,
-        messageService.getMessage("email.registration.confirmation.subject"),
-        templateModel,
-        "email/confirmation-email"
-    );
+  @Override
+  public void sendVerifiedMessage(String toEmail, String token, Locale locale) {
+    send(List.of(prepareVerifiedMessage(toEmail, token, locale)));
   }
 
-  private void sendMessageUsingThymeleafTemplate(
-      String to, String subject, Map<String, Object> templateModel, String templateName) {
-    var thymeleafContext = new Context();
-    thymeleafContext.setVariables(templateModel);
+  @Override
+  public MimeMessage prepareVerifiedMessage(String toEmail, String token, Locale locale) {
+    var letter = confirmationEmailRenderer.render(token, locale);
+    return createHtmlMessage(toEmail, letter.subject(), letter.html(), locale);
+  }
 
-    var htmlBody = thymeleafTemplateEngine.process(templateName, thymeleafContext);
-    sendHtmlMessage(to, subject, htmlBody);
+  @Override
+  public void send(List<MimeMessage> letters) {
+    smtpConnectionPool.send(letters);
   }
 
-  private void sendHtmlMessage(String to, String subject, String htmlBody) {
+  private MimeMessage createHtmlMessage(String to, String subject, String htmlBody,
+                                        Locale locale) {
     try {
       var message = mailSender.createMimeMessage();
       var helper = new MimeMessageHelper(message, true, "UTF-8");
       helper.setTo(to);
       helper.setSubject(subject);
       helper.setText(htmlBody, true);
-      mailSender.send(message);
+      return message;
     } catch (MessagingException e) {
-      throw new FailureSendEmailException(messageService.getMessageWithArgs(
+      throw new FailureSendEmailException(messages.getMessage(
           "email.error.send.msg",
-          new Object[] {to, subject}
+          new Object[] {to, subject},
+          locale
       ));
     }
   }
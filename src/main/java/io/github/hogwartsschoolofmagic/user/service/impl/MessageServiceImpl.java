@@ -4,26 +4,26 @@ import io.github.hogwartsschoolofmagic.user.service.MessageService;
 import java.util.Locale;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.web.context.annotation.SessionScope;
 
 /**
- * <p> Service class (implementation) for working with localization of messages on the server. </p>
+ * <p> Service class (implementation) for working with localization of messages on the server. The
+ * language is taken from the context of the current request, which is filled by
+ * {@link io.github.hogwartsschoolofmagic.user.security.UserLocaleResolver}. </p>
  *
  * @author Vladislav [SmithyVL] Kuznetsov.
  * @since 0.4.4
  */
 @RequiredArgsConstructor
-@SessionScope
 @Service
 public class MessageServiceImpl implements MessageService {
 
   private final MessageSource messages;
-  private Locale locale = new Locale("en");
 
   @Override
-  public void setLocale(String language) {
-    locale = new Locale(language);
+  public Locale getLocale() {
+    return LocaleContextHolder.getLocale();
   }
 
   @Override
@@ -37,6 +37,6 @@ public class MessageServiceImpl implements MessageService {
   }
 
   private String getMessage(String path, Object[] args) {
-    return messages.getMessage(path, args, locale);
+    return messages.getMessage(path, args, getLocale());
   }
 }
\ No newline at end of file
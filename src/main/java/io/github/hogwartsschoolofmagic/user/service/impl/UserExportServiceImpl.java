@@ -0,0 +1,53 @@
+package io.github.hogwartsschoolofmagic.user.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hogwartsschoolofmagic.user.config.properties.UserExportProperties;
+import io.github.hogwartsschoolofmagic.user.enumeration.UserFileFormat;
+import io.github.hogwartsschoolofmagic.user.persistence.dao.UserRepository;
+import io.github.hogwartsschoolofmagic.user.persistence.model.export.UserExportFilter;
+import io.github.hogwartsschoolofmagic.user.service.UserExportService;
+import io.github.hogwartsschoolofmagic.user.service.exports.UserExportWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * <p> Service class (implementation) for the export of users. The export runs in a read-only
+ * transaction, which the database driver needs to read the result through a cursor. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.26
+ */
+@RequiredArgsConstructor
+@Service
+public class UserExportServiceImpl implements UserExportService {
+
+  private final UserRepository userRepository;
+  private final ObjectMapper objectMapper;
+  private final UserExportProperties properties;
+
+  @Override
+  @Transactional(readOnly = true)
+  public long exportUsers(UserExportFilter filter, UserFileFormat format, OutputStream output)
+      throws IOException {
+    var count = new AtomicLong();
+    try (var writer = new UserExportWriter(output, format, filter, objectMapper)) {
+      writer.open();
+      userRepository.exportUsers(filter, properties.getFetchSize(), row -> {
+        try {
+          writer.write(row);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        count.incrementAndGet();
+      });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    return count.get();
+  }
+}
\ No newline at end of file
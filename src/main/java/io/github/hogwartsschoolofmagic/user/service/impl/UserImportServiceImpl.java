@@ -0,0 +1,390 @@
+package io.github.hogwartsschoolofmagic.user.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hogwartsschoolofmagic.user.config.properties.UserImportProperties;
+import io.github.hogwartsschoolofmagic.user.enumeration.AuthProvider;
+import io.github.hogwartsschoolofmagic.user.enumeration.Roles;
+import io.github.hogwartsschoolofmagic.user.enumeration.UserFileFormat;
+import io.github.hogwartsschoolofmagic.user.event.OnRegistrationCompleteEvent;
+import io.github.hogwartsschoolofmagic.user.exception.resource.ResourceNotFoundException;
+import io.github.hogwartsschoolofmagic.user.exception.server.ServiceOverloadedException;
+import io.github.hogwartsschoolofmagic.user.persistence.dao.UserRepository;
+import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
+import io.github.hogwartsschoolofmagic.user.security.RoleRegistry;
+import io.github.hogwartsschoolofmagic.user.security.password.PasswordPolicy;
+import io.github.hogwartsschoolofmagic.user.service.MessageService;
+import io.github.hogwartsschoolofmagic.user.service.UserImportService;
+import io.github.hogwartsschoolofmagic.user.service.imports.UserImportJob;
+import io.github.hogwartsschoolofmagic.user.service.imports.UserImportReader;
+import io.github.hogwartsschoolofmagic.user.service.imports.UserImportReport;
+import io.github.hogwartsschoolofmagic.user.service.imports.UserImportRow;
+import io.github.hogwartsschoolofmagic.user.util.EmailUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * <p> Service class (implementation) for the bulk import of users. Rows are collected into
+ * batches; the passwords of a batch are hashed in parallel, after which the batch is saved by one
+ * statement and the verification letters are saved to the outbox in the same transaction. The
+ * received file is saved to a temporary file and imported by a separate thread, so the request
+ * returns at once. The progress of the imports is kept in memory of the instance that runs
+ * them. </p>
+ *
+ * <p> The temporary file holds the passwords in plain text. It is readable by the owner only and
+ * is deleted as soon as the import opens it; the files of imports that never ran are deleted
+ * when the application stops or starts again. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.25
+ */
+@Slf4j
+@Service
+public class UserImportServiceImpl implements UserImportService {
+
+  private static final String METRIC_NAME = "user.import.rows";
+  private static final int MAX_HASHING_ATTEMPTS = 5;
+  private static final String FILE_PREFIX = "user-import-";
+
+  private final UserRepository userRepository;
+  private final RoleRegistry roleRegistry;
+  private final PasswordEncoder passwordEncoder;
+  private final PasswordPolicy passwordPolicy;
+  private final MessageService messageService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ObjectMapper objectMapper;
+  private final UserImportProperties properties;
+  private final TransactionTemplate transactionTemplate;
+  private final ExecutorService importExecutor;
+  private final ExecutorService hashingExecutor;
+  private final Map<UUID, UserImportJob> imports = new LinkedHashMap<>();
+  private final Counter importedRows;
+  private final Counter failedRows;
+
+  /**
+   * Creating a service with its own threads for running imports and hashing passwords.
+   *
+   * @param userRepository     repository of the users.
+   * @param roleRegistry       registry of the roles.
+   * @param passwordEncoder    encoder of the passwords.
+   * @param passwordPolicy     password rules.
+   * @param messageService     service for localized messages.
+   * @param eventPublisher     publisher of registration events.
+   * @param objectMapper       mapper for reading JSON lines.
+   * @param properties         import settings.
+   * @param transactionManager manager for transactions of saving batches.
+   * @param meterRegistry      registry for publishing metrics.
+   */
+  public UserImportServiceImpl(UserRepository userRepository, RoleRegistry roleRegistry,
+                               PasswordEncoder passwordEncoder, PasswordPolicy passwordPolicy,
+                               MessageService messageService,
+                               ApplicationEventPublisher eventPublisher,
+                               ObjectMapper objectMapper, UserImportProperties properties,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+    this.userRepository = userRepository;
+    this.roleRegistry = roleRegistry;
+    this.passwordEncoder = passwordEncoder;
+    this.passwordPolicy = passwordPolicy;
+    this.messageService = messageService;
+    this.eventPublisher = eventPublisher;
+    this.objectMapper = objectMapper;
+    this.properties = properties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.importExecutor = Executors.newFixedThreadPool(properties.getConcurrentImports(),
+        new CustomizableThreadFactory("user-import-"));
+    this.hashingExecutor = Executors.newFixedThreadPool(properties.getHashingThreads(),
+        new CustomizableThreadFactory("user-import-hashing-"));
+    this.importedRows = meterRegistry.counter(METRIC_NAME, "outcome", "imported");
+    this.failedRows = meterRegistry.counter(METRIC_NAME, "outcome", "failed");
+  }
+
+  @Override
+  public UserImportReport submitImport(InputStream input, UserFileFormat format)
+      throws IOException {
+    var file = Files.createTempFile(properties.getDirectory(), FILE_PREFIX,
+        "." + format.name().toLowerCase(Locale.ROOT));
+    try {
+      Files.copy(input, file, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      Files.deleteIfExists(file);
+      throw e;
+    }
+
+    var job = register(new UserImportJob(properties.getMaxReportedErrors()));
+    var locale = LocaleContextHolder.getLocale();
+    try {
+      importExecutor.execute(() -> runImport(job, file, format, locale));
+    } catch (RejectedExecutionException e) {
+      deleteFile(file);
+      job.fail(e.getMessage());
+    }
+    return job.toReport();
+  }
+
+  @Override
+  public List<UserImportReport> getImports() {
+    synchronized (imports) {
+      return imports.values().stream()
+          .map(UserImportJob::toReport)
+          .toList();
+    }
+  }
+
+  @Override
+  public Optional<UserImportReport> getImport(UUID id) {
+    synchronized (imports) {
+      return Optional.ofNullable(imports.get(id)).map(UserImportJob::toReport);
+    }
+  }
+
+  /**
+   * Preparing the directory for the received files and deleting the files left by imports that
+   * did not run before the previous stop of the application.
+   *
+   * @throws IOException the directory could not be created or read.
+   */
+  @PostConstruct
+  public void init() throws IOException {
+    Files.createDirectories(properties.getDirectory());
+    deleteLeftoverFiles();
+  }
+
+  /**
+   * Stopping the threads for running imports and hashing passwords when the application stops.
+   * The files of the imports that are still waiting in the queue are deleted.
+   */
+  @PreDestroy
+  public void shutdown() {
+    importExecutor.shutdownNow();
+    hashingExecutor.shutdownNow();
+    deleteLeftoverFiles();
+  }
+
+  /**
+   * Running a queued import in an import thread. The messages of the import are localized in the
+   * language of the administrator who started it.
+   *
+   * @param job    import progress.
+   * @param file   temporary file with the received contents, deleted once it is opened.
+   * @param format file format.
+   * @param locale language of the administrator.
+   */
+  private void runImport(UserImportJob job, Path file, UserFileFormat format, Locale locale) {
+    LocaleContextHolder.setLocale(locale);
+    try (var input = Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE)) {
+      job.start();
+      importUsers(job, input, format);
+    } catch (IOException | RuntimeException e) {
+      log.error("User import {} failed", job.getId(), e);
+      job.fail(e.getMessage());
+    } finally {
+      LocaleContextHolder.resetLocaleContext();
+      deleteFile(file);
+    }
+  }
+
+  /**
+   * Reading the file and saving the valid rows in batches.
+   *
+   * @param job    import progress.
+   * @param input  file contents.
+   * @param format file format.
+   * @throws IOException the file could not be read.
+   */
+  private void importUsers(UserImportJob job, InputStream input, UserFileFormat format)
+      throws IOException {
+    try (var reader = new UserImportReader(input, format, objectMapper)) {
+      if (!reader.open()) {
+        job.fail(messageService.getMessage("user.import.error.header"));
+        return;
+      }
+
+      var batch = new ArrayList<UserImportRow>(properties.getBatchSize());
+      UserImportRow row;
+      while ((row = reader.next()) != null) {
+        job.rowRead();
+        var error = validate(row);
+        if (error != null) {
+          rowFailed(job, row, error);
+          continue;
+        }
+
+        batch.add(row);
+        if (batch.size() == properties.getBatchSize()) {
+          importBatch(job, batch);
+          batch.clear();
+        }
+      }
+      importBatch(job, batch);
+      job.complete();
+    }
+  }
+
+  /**
+   * Saving a batch of valid rows.
+   *
+   * @param job   import progress.
+   * @param batch valid rows.
+   */
+  private void importBatch(UserImportJob job, List<UserImportRow> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    var hashes = batch.stream()
+        .map(row -> CompletableFuture.supplyAsync(() -> hash(row.password()), hashingExecutor))
+        .toList();
+    var users = new ArrayList<User>(batch.size());
+    for (int i = 0; i < batch.size(); i++) {
+      var row = batch.get(i);
+      var user = new User();
+      user.setFullname(row.name());
+      user.setEmail(EmailUtils.canonicalize(row.email()));
+      user.setEmailVerified(false);
+      user.setAuthProvider(AuthProvider.LOCAL);
+      user.setPassword(hashes.get(i).join());
+      users.add(user);
+    }
+
+    var userRole = roleRegistry.getRole(Roles.ROLE_USER)
+        .orElseThrow(() -> new ResourceNotFoundException(messageService.getMessageWithArgs(
+            "role.error.not.found.by.name", new Object[] {Roles.ROLE_USER.getName()}
+        )));
+    var inserted = transactionTemplate.execute(status -> {
+      var saved = userRepository.insertAllIfEmailAbsent(users, Set.of(userRole));
+      saved.forEach(user -> eventPublisher.publishEvent(new OnRegistrationCompleteEvent(user, "")));
+      return saved;
+    });
+
+    job.usersImported(inserted.size());
+    importedRows.increment(inserted.size());
+    for (int i = 0; i < batch.size(); i++) {
+      if (users.get(i).getId() == null) {
+        var row = batch.get(i);
+        rowFailed(job, row, messageService.getMessageWithArgs(
+            "user.error.exist.email", new Object[] {row.email()}));
+      }
+    }
+  }
+
+  /**
+   * Checking a row before saving.
+   *
+   * @param row row of the file.
+   * @return description of the error or null if the row is valid.
+   */
+  private String validate(UserImportRow row) {
+    if (row.malformed()) {
+      return messageService.getMessage("user.import.error.malformed");
+    }
+    if (!StringUtils.hasText(row.email()) || !EmailUtils.isValid(row.email())) {
+      return messageService.getMessage("user.import.error.invalid.email");
+    }
+    if (!StringUtils.hasText(row.name())) {
+      return messageService.getMessage("user.import.error.empty.name");
+    }
+
+    var violations = passwordPolicy.getViolations(row.password());
+    return violations.isEmpty() ? null : String.join(" ", violations);
+  }
+
+  /**
+   * Hashing a password on the shared hashing pool. When the pool is overloaded, for example by
+   * logins, the import waits and tries again.
+   *
+   * @param password user's password.
+   * @return password hash.
+   * @throws ServiceOverloadedException the pool stayed overloaded after all attempts.
+   */
+  private String hash(String password) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return passwordEncoder.encode(password);
+      } catch (ServiceOverloadedException e) {
+        if (attempt == MAX_HASHING_ATTEMPTS) {
+          throw e;
+        }
+        try {
+          Thread.sleep(e.getRetryAfter().toMillis());
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          throw e;
+        }
+      }
+    }
+  }
+
+  private void rowFailed(UserImportJob job, UserImportRow row, String message) {
+    job.rowFailed(row, message);
+    failedRows.increment();
+  }
+
+  /**
+   * Registering a new import and forgetting the oldest finished ones.
+   *
+   * @param job new import.
+   * @return the same import.
+   */
+  private UserImportJob register(UserImportJob job) {
+    synchronized (imports) {
+      var finished = imports.values().stream().filter(UserImportJob::isFinished).count();
+      var iterator = imports.values().iterator();
+      while (finished >= properties.getRetainedImports() && iterator.hasNext()) {
+        if (iterator.next().isFinished()) {
+          iterator.remove();
+          finished--;
+        }
+      }
+      imports.put(job.getId(), job);
+    }
+    return job;
+  }
+
+  /**
+   * Deleting the received files of the imports that have not been opened yet.
+   */
+  private void deleteLeftoverFiles() {
+    try (var files = Files.newDirectoryStream(properties.getDirectory(), FILE_PREFIX + "*")) {
+      files.forEach(UserImportServiceImpl::deleteFile);
+    } catch (IOException e) {
+      log.warn("Could not list the import directory {}", properties.getDirectory(), e);
+    }
+  }
+
+  private static void deleteFile(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("Could not delete the temporary import file {}", file, e);
+    }
+  }
+}
\ No newline at end of file
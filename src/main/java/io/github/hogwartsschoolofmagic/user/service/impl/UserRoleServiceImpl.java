@@ -0,0 +1,63 @@
+package io.github.hogwartsschoolofmagic.user.service.impl;
+
+import io.github.hogwartsschoolofmagic.user.enumeration.Roles;
+import io.github.hogwartsschoolofmagic.user.event.publisher.UserChangedPublisher;
+import io.github.hogwartsschoolofmagic.user.exception.resource.ResourceNotFoundException;
+import io.github.hogwartsschoolofmagic.user.persistence.dao.UserRepository;
+import io.github.hogwartsschoolofmagic.user.persistence.model.user.Role;
+import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
+import io.github.hogwartsschoolofmagic.user.security.AuthorizationVersionTracker;
+import io.github.hogwartsschoolofmagic.user.security.RoleRegistry;
+import io.github.hogwartsschoolofmagic.user.service.MessageService;
+import io.github.hogwartsschoolofmagic.user.service.UserRoleService;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * <p> Service class (implementation) for changing the roles of users by the administrator. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.6
+ */
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class UserRoleServiceImpl implements UserRoleService {
+
+  private final UserRepository userRepository;
+  private final RoleRegistry roleRegistry;
+  private final AuthorizationVersionTracker authorizationVersionTracker;
+  private final UserChangedPublisher userChangedPublisher;
+  private final MessageService messageService;
+
+  @Override
+  public User setRoles(Long userId, Set<Roles> roles) {
+    var user = userRepository.findWithAuthoritiesById(userId)
+        .orElseThrow(() -> new ResourceNotFoundException(messageService.getMessageWithArgs(
+            "user.error.not.found", new Object[] {userId})));
+    var currentRoles = user.getRoles().stream()
+        .map(Role::getValue)
+        .collect(Collectors.toSet());
+    if (currentRoles.equals(roles)) {
+      return user;
+    }
+
+    user.setRoles(roles.stream()
+        .map(this::getRole)
+        .collect(Collectors.toCollection(HashSet::new)));
+    authorizationVersionTracker.revoke(user);
+    var saved = userRepository.save(user);
+    userChangedPublisher.publish(saved);
+    return saved;
+  }
+
+  private Role getRole(Roles value) {
+    return roleRegistry.getRole(value)
+        .orElseThrow(() -> new ResourceNotFoundException(messageService.getMessageWithArgs(
+            "role.error.not.found.by.name", new Object[] {value.getName()})));
+  }
+}
\ No newline at end of file
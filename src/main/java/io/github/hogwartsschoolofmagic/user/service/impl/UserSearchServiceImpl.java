@@ -0,0 +1,64 @@
+package io.github.hogwartsschoolofmagic.user.service.impl;
+
+import io.github.hogwartsschoolofmagic.user.exception.request.BadRequestException;
+import io.github.hogwartsschoolofmagic.user.persistence.dao.UserRepository;
+import io.github.hogwartsschoolofmagic.user.persistence.model.search.UserSearchCursor;
+import io.github.hogwartsschoolofmagic.user.persistence.model.search.UserSearchPage;
+import io.github.hogwartsschoolofmagic.user.service.MessageService;
+import io.github.hogwartsschoolofmagic.user.service.UserSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+/**
+ * <p> Service class (implementation) for searching users by the administrator. One user more
+ * than the page size is read to know whether there is a next page. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.27
+ */
+@RequiredArgsConstructor
+@Service
+public class UserSearchServiceImpl implements UserSearchService {
+
+  /**
+   * Minimum length of the query, shorter queries cannot use the trigram indexes.
+   */
+  private static final int MIN_QUERY_LENGTH = 3;
+  private static final int MAX_PAGE_SIZE = 100;
+
+  private final UserRepository userRepository;
+  private final MessageService messageService;
+
+  @Override
+  @Transactional(readOnly = true)
+  public UserSearchPage searchUsers(String query, String cursor, int size) {
+    var trimmedQuery = StringUtils.hasText(query) ? query.trim() : null;
+    if (trimmedQuery != null && trimmedQuery.length() < MIN_QUERY_LENGTH) {
+      throw new BadRequestException(messageService.getMessageWithArgs(
+          "user.search.error.short.query", new Object[] {MIN_QUERY_LENGTH}));
+    }
+    if (size < 1 || size > MAX_PAGE_SIZE) {
+      throw new BadRequestException(messageService.getMessageWithArgs(
+          "user.search.error.page.size", new Object[] {MAX_PAGE_SIZE}));
+    }
+
+    UserSearchCursor after = null;
+    if (StringUtils.hasText(cursor)) {
+      try {
+        after = UserSearchCursor.decode(cursor);
+      } catch (IllegalArgumentException e) {
+        throw new BadRequestException(messageService.getMessage("user.search.error.cursor"));
+      }
+    }
+
+    var users = userRepository.searchUsers(trimmedQuery, after, size + 1);
+    if (users.size() <= size) {
+      return new UserSearchPage(users, null);
+    }
+
+    var page = users.subList(0, size);
+    return new UserSearchPage(page, UserSearchCursor.after(page.get(size - 1)).encode());
+  }
+}
\ No newline at end of file
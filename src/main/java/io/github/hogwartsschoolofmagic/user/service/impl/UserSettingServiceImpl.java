@@ -1,16 +1,19 @@
 package io.github.hogwartsschoolofmagic.user.service.impl;
 
+import io.github.hogwartsschoolofmagic.user.event.publisher.UserChangedPublisher;
 import io.github.hogwartsschoolofmagic.user.persistence.dao.UserSettingRepository;
 import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
 import io.github.hogwartsschoolofmagic.user.persistence.model.user.UserSetting;
-import io.github.hogwartsschoolofmagic.user.service.MessageService;
+import io.github.hogwartsschoolofmagic.user.security.UserLocaleResolver;
 import io.github.hogwartsschoolofmagic.user.service.UserSettingService;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.context.annotation.SessionScope;
 
 /**
  * <p> Service class (implementation) for working with user setting entity. </p>
@@ -20,13 +23,14 @@ import org.springframework.web.context.annotation.SessionScope;
  */
 @RequiredArgsConstructor
 @Slf4j
-@SessionScope
 @Transactional
 @Service
 public class UserSettingServiceImpl implements UserSettingService {
 
+  private static final String LOCALE_SETTING = "locale";
+
   private final UserSettingRepository userSettingRepo;
-  private final MessageService messageService;
+  private final UserChangedPublisher userChangedPublisher;
 
   @Override
   public List<UserSetting> getAll(User user) {
@@ -47,9 +51,24 @@ public class UserSettingServiceImpl implements UserSettingService {
     return userSettingRepo.saveAndFlush(userSettingFromDb);
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<Locale> getLocale(Long userId) {
+    return userSettingRepo.findFirstByUserIdAndName(userId, LOCALE_SETTING)
+        .flatMap(setting -> UserLocaleResolver.toSupportedLocale(setting.getValue()));
+  }
+
+  /**
+   * Applying the new user language to the rest of the current request. Subsequent requests get
+   * it from the saved setting, after the user change is published to all service instances.
+   *
+   * @param userSetting saved setting.
+   */
   private void configuringUserLanguage(UserSetting userSetting) {
-    if (userSetting.getName().equals("locale")) {
-      messageService.setLocale(userSetting.getValue());
+    if (userSetting.getName().equals(LOCALE_SETTING)) {
+      UserLocaleResolver.toSupportedLocale(userSetting.getValue())
+          .ifPresent(LocaleContextHolder::setLocale);
+      userChangedPublisher.publish(userSetting.getUser());
     }
   }
 }
\ No newline at end of file
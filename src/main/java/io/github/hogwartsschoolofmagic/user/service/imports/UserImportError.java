@@ -0,0 +1,13 @@
+package io.github.hogwartsschoolofmagic.user.service.imports;
+
+/**
+ * <p> Error of one row of the file with imported users. </p>
+ *
+ * @param line    number of the line in the file.
+ * @param email   email from the row, if it was read.
+ * @param message description of the error.
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.25
+ */
+public record UserImportError(long line, String email, String message) {
+}
\ No newline at end of file
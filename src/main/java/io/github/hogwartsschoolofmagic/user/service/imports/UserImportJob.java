@@ -0,0 +1,124 @@
+package io.github.hogwartsschoolofmagic.user.service.imports;
+
+import io.github.hogwartsschoolofmagic.user.enumeration.UserImportStatus;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+/**
+ * <p> Progress of a user import. The counters are updated by the importing thread and read by
+ * progress requests at any time. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.25
+ */
+public class UserImportJob {
+
+  @Getter
+  private final UUID id = UUID.randomUUID();
+  private final int maxReportedErrors;
+  private final AtomicLong read = new AtomicLong();
+  private final AtomicLong imported = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final List<UserImportError> errors = new ArrayList<>();
+  private volatile UserImportStatus status = UserImportStatus.QUEUED;
+  private volatile String failure;
+  private volatile LocalDateTime started;
+  private volatile LocalDateTime finished;
+
+  /**
+   * Constructor for creating a queued import.
+   *
+   * @param maxReportedErrors maximum number of row errors kept in the report.
+   */
+  public UserImportJob(int maxReportedErrors) {
+    this.maxReportedErrors = maxReportedErrors;
+  }
+
+  /**
+   * Marking the import as started by an import thread.
+   */
+  public void start() {
+    started = LocalDateTime.now();
+    status = UserImportStatus.RUNNING;
+  }
+
+  /**
+   * Counting a read row.
+   */
+  public void rowRead() {
+    read.incrementAndGet();
+  }
+
+  /**
+   * Counting saved users.
+   *
+   * @param count number of saved users.
+   */
+  public void usersImported(int count) {
+    imported.addAndGet(count);
+  }
+
+  /**
+   * Counting a row with an error.
+   *
+   * @param row     row with an error.
+   * @param message description of the error.
+   */
+  public void rowFailed(UserImportRow row, String message) {
+    failed.incrementAndGet();
+    synchronized (errors) {
+      if (errors.size() < maxReportedErrors) {
+        errors.add(new UserImportError(row.line(), row.email(), message));
+      }
+    }
+  }
+
+  /**
+   * Marking the import as finished after the whole file has been read.
+   */
+  public void complete() {
+    finish(UserImportStatus.COMPLETED);
+  }
+
+  /**
+   * Marking the import as stopped by an error.
+   *
+   * @param message description of the error.
+   */
+  public void fail(String message) {
+    failure = message;
+    finish(UserImportStatus.FAILED);
+  }
+
+  /**
+   * Method for checking whether the import has finished.
+   *
+   * @return true if the import has finished.
+   */
+  public boolean isFinished() {
+    return status == UserImportStatus.COMPLETED || status == UserImportStatus.FAILED;
+  }
+
+  /**
+   * Method for getting the current progress of the import.
+   *
+   * @return import report.
+   */
+  public UserImportReport toReport() {
+    List<UserImportError> reportedErrors;
+    synchronized (errors) {
+      reportedErrors = List.copyOf(errors);
+    }
+    return new UserImportReport(id, status, read.get(), imported.get(), failed.get(),
+        reportedErrors, failure, started, finished);
+  }
+
+  private void finish(UserImportStatus finalStatus) {
+    finished = LocalDateTime.now();
+    status = finalStatus;
+  }
+}
\ No newline at end of file
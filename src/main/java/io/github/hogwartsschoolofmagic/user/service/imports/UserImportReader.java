@@ -0,0 +1,178 @@
+package io.github.hogwartsschoolofmagic.user.service.imports;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hogwartsschoolofmagic.user.enumeration.UserFileFormat;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * <p> Reader of the file with imported users. The file is read line by line, so only the current
+ * line is kept in memory. A line that cannot be read is returned as a malformed row and does not
+ * stop the reading. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.25
+ */
+public class UserImportReader implements Closeable {
+
+  private static final String EMAIL = "email";
+  private static final String NAME = "name";
+  private static final String PASSWORD = "password";
+
+  private final BufferedReader reader;
+  private final UserFileFormat format;
+  private final ObjectMapper objectMapper;
+  private long lineNumber;
+  private int emailColumn = -1;
+  private int nameColumn = -1;
+  private int passwordColumn = -1;
+
+  /**
+   * Constructor for creating a reader of the file.
+   *
+   * @param input        file contents.
+   * @param format       file format.
+   * @param objectMapper mapper for reading JSON lines.
+   */
+  public UserImportReader(InputStream input, UserFileFormat format, ObjectMapper objectMapper) {
+    this.reader = new BufferedReader(new InputStreamReader(input, UTF_8));
+    this.format = format;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Method for reading the beginning of the file. For CSV the header is read and checked.
+   *
+   * @return true if the file can be read, false if the CSV header lacks the required columns.
+   * @throws IOException the file could not be read.
+   */
+  public boolean open() throws IOException {
+    if (format != UserFileFormat.CSV) {
+      return true;
+    }
+
+    var header = readLine();
+    if (header == null) {
+      return false;
+    }
+    var columns = splitCsv(header);
+    for (int i = 0; columns != null && i < columns.size(); i++) {
+      switch (columns.get(i).trim().toLowerCase(Locale.ROOT)) {
+        case EMAIL -> emailColumn = i;
+        case NAME -> nameColumn = i;
+        case PASSWORD -> passwordColumn = i;
+        default -> {
+          // Other columns are ignored.
+        }
+      }
+    }
+    return emailColumn >= 0 && nameColumn >= 0 && passwordColumn >= 0;
+  }
+
+  /**
+   * Method for reading the next row of the file. Blank lines are skipped.
+   *
+   * @return next row or null if the file has ended.
+   * @throws IOException the file could not be read.
+   */
+  public UserImportRow next() throws IOException {
+    var line = readLine();
+    if (line == null) {
+      return null;
+    }
+    return format == UserFileFormat.CSV ? parseCsv(line) : parseJson(line);
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private String readLine() throws IOException {
+    String line;
+    do {
+      line = reader.readLine();
+      if (line == null) {
+        return null;
+      }
+      lineNumber++;
+    } while (line.isBlank());
+    return line;
+  }
+
+  private UserImportRow parseCsv(String line) {
+    var values = splitCsv(line);
+    var required = Math.max(emailColumn, Math.max(nameColumn, passwordColumn));
+    if (values == null || values.size() <= required) {
+      return UserImportRow.malformed(lineNumber);
+    }
+    return new UserImportRow(lineNumber, values.get(emailColumn).trim(),
+        values.get(nameColumn).trim(), values.get(passwordColumn), false);
+  }
+
+  private UserImportRow parseJson(String line) {
+    try {
+      var node = objectMapper.readTree(line);
+      if (!node.isObject()) {
+        return UserImportRow.malformed(lineNumber);
+      }
+      return new UserImportRow(lineNumber, text(node, EMAIL), text(node, NAME),
+          node.path(PASSWORD).textValue(), false);
+    } catch (JsonProcessingException e) {
+      return UserImportRow.malformed(lineNumber);
+    }
+  }
+
+  private static String text(JsonNode node, String field) {
+    var value = node.path(field).textValue();
+    return value == null ? null : value.trim();
+  }
+
+  /**
+   * Splitting a CSV line into values. Values can be quoted, a quote inside a quoted value is
+   * written twice.
+   *
+   * @param line CSV line.
+   * @return values of the line or null if a quoted value is not closed.
+   */
+  private static List<String> splitCsv(String line) {
+    var values = new ArrayList<String>();
+    var value = new StringBuilder();
+    var quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      var c = line.charAt(i);
+      if (quoted) {
+        if (c != '"') {
+          value.append(c);
+        } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          value.append('"');
+          i++;
+        } else {
+          quoted = false;
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        values.add(value.toString());
+        value.setLength(0);
+      } else {
+        value.append(c);
+      }
+    }
+    if (quoted) {
+      return null;
+    }
+    values.add(value.toString());
+    return values;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package io.github.hogwartsschoolofmagic.user.service.imports;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.github.hogwartsschoolofmagic.user.enumeration.UserImportStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * <p> Progress or result of a user import. </p>
+ *
+ * @param id       import id.
+ * @param status   import status.
+ * @param read     number of rows read.
+ * @param imported number of users saved.
+ * @param failed   number of rows with errors.
+ * @param errors   first row errors.
+ * @param failure  error that stopped the import, if any.
+ * @param started  date the import started, if it has.
+ * @param finished date the import finished, if it has.
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.25
+ */
+public record UserImportReport(
+    UUID id,
+    UserImportStatus status,
+    long read,
+    long imported,
+    long failed,
+    List<UserImportError> errors,
+    String failure,
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    LocalDateTime started,
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    LocalDateTime finished) {
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package io.github.hogwartsschoolofmagic.user.service.imports;
+
+/**
+ * <p> One row of the file with imported users. </p>
+ *
+ * @param line      number of the line in the file.
+ * @param email     user's email.
+ * @param name      user's name.
+ * @param password  user's password.
+ * @param malformed true if the line could not be read, in which case the fields are empty.
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.25
+ */
+public record UserImportRow(long line, String email, String name, String password,
+                            boolean malformed) {
+
+  /**
+   * Method for creating a row for a line that could not be read.
+   *
+   * @param line number of the line in the file.
+   * @return row marked as malformed.
+   */
+  public static UserImportRow malformed(long line) {
+    return new UserImportRow(line, null, null, null, true);
+  }
+}
\ No newline at end of file
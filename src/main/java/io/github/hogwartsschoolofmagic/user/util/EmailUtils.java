@@ -0,0 +1,107 @@
+package io.github.hogwartsschoolofmagic.user.util;
+
+import java.util.Locale;
+
+/**
+ * <p> Class for checking and canonicalizing email addresses. The check is a single pass over the
+ * address without regular expressions and creating objects. The canonical form of the address is
+ * the one stored in the unique index on users emails, so it is used for every lookup by email.
+ * </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.22
+ */
+public class EmailUtils {
+
+  private static final int MAX_LENGTH = 254;
+  private static final int MAX_LOCAL_PART_LENGTH = 64;
+  private static final int MAX_LABEL_LENGTH = 63;
+  private static final int MIN_TOP_LEVEL_DOMAIN_LENGTH = 2;
+
+  private EmailUtils() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Static method for checking the email address. The local part consists of letters, digits and
+   * the characters "_", "-" and "+" separated by single dots. The domain consists of at least two
+   * labels of letters, digits and hyphens, the last of them consists of at least two letters.
+   *
+   * @param email email for validation.
+   * @return true if the email passed validation, otherwise false.
+   */
+  public static boolean isValid(String email) {
+    var length = email.length();
+    var at = email.indexOf('@');
+    if (length > MAX_LENGTH || at <= 0 || at > MAX_LOCAL_PART_LENGTH) {
+      return false;
+    }
+
+    return isValidLocalPart(email, at) && isValidDomain(email, at + 1, length);
+  }
+
+  /**
+   * Static method for getting the canonical form of the email address, which is the trimmed
+   * address in lower case. The local part is folded as well as the domain: RFC 5321 lets a mail
+   * server treat the local part as case-sensitive, but mail providers do not, and folding it keeps
+   * one account per mailbox, so "Harry@hogwarts.test" cannot be registered next to
+   * "harry@hogwarts.test". It matches the unique index on lower(email).
+   *
+   * @param email email address.
+   * @return canonical email address, null if the address is null.
+   */
+  public static String canonicalize(String email) {
+    return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private static boolean isValidLocalPart(String email, int end) {
+    var previous = '.';
+    for (int i = 0; i < end; i++) {
+      var c = email.charAt(i);
+      if (c == '.') {
+        if (previous == '.') {
+          return false;
+        }
+      } else if (!isAlphanumeric(c) && c != '_' && c != '-' && c != '+') {
+        return false;
+      }
+      previous = c;
+    }
+    return previous != '.';
+  }
+
+  private static boolean isValidDomain(String email, int start, int end) {
+    var labels = 0;
+    var labelStart = start;
+    var lettersOnly = true;
+    for (int i = start; i <= end; i++) {
+      var c = i < end ? email.charAt(i) : '.';
+      if (c == '.') {
+        var labelLength = i - labelStart;
+        if (labelLength == 0 || labelLength > MAX_LABEL_LENGTH
+            || email.charAt(labelStart) == '-' || email.charAt(i - 1) == '-') {
+          return false;
+        }
+        labels++;
+        if (i == end) {
+          return labels > 1 && lettersOnly && labelLength >= MIN_TOP_LEVEL_DOMAIN_LENGTH;
+        }
+        labelStart = i + 1;
+        lettersOnly = true;
+      } else if (isAlphanumeric(c) || c == '-') {
+        lettersOnly &= isLetter(c);
+      } else {
+        return false;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isAlphanumeric(char c) {
+    return isLetter(c) || c >= '0' && c <= '9';
+  }
+
+  private static boolean isLetter(char c) {
+    return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+  }
+}
\ No newline at end of file
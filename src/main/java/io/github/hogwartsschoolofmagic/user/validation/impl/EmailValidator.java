@@ -1,25 +1,19 @@
 package io.github.hogwartsschoolofmagic.user.validation.impl;
 
+import io.github.hogwartsschoolofmagic.user.util.EmailUtils;
 import io.github.hogwartsschoolofmagic.user.validation.annotation.ValidEmail;
-import java.util.regex.Pattern;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import org.springframework.util.StringUtils;
 
 /**
- * <p> Validating class for annotation - pattern-based email validation. </p>
+ * <p> Validating class for annotation - email validation by {@link EmailUtils}. </p>
  *
  * @author Vladislav [SmithyVL] Kuznetsov.
  * @since 0.3.15
  */
 public class EmailValidator implements ConstraintValidator<ValidEmail, String> {
 
-  /**
-   * Pattern for checking email.
-   */
-  private static final String EMAIL_PATTERN =
-      "^[_A-Za-z0-9-+]+(.[_A-Za-z0-9-]+)*@" + "[A-Za-z0-9-]+(.[A-Za-z0-9]+)*(.[A-Za-z]{2,})$";
-
   @Override
   public void initialize(ValidEmail constraintAnnotation) {
     // Do nothing
@@ -38,7 +32,7 @@ public class EmailValidator implements ConstraintValidator<ValidEmail, String> {
   }
 
   /**
-   * Method for checking email using reg-exp pattern.
+   * Method for checking email.
    *
    * @param email email for validation.
    * @return true if the email passed validation, otherwise false.
@@ -48,6 +42,6 @@ public class EmailValidator implements ConstraintValidator<ValidEmail, String> {
       return true;
     }
 
-    return email.matches(Pattern.quote(EMAIL_PATTERN));
+    return EmailUtils.isValid(email);
   }
 }
\ No newline at end of file
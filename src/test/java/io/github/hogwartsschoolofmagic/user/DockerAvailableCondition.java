@@ -0,0 +1,23 @@
+package io.github.hogwartsschoolofmagic.user;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.testcontainers.DockerClientFactory;
+
+/**
+ * <p> Condition that skips the tests needing a database container when Docker is not available,
+ * so that the rest of the tests can still be run on such a machine. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.28
+ */
+class DockerAvailableCondition implements ExecutionCondition {
+
+  @Override
+  public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+    return DockerClientFactory.instance().isDockerAvailable()
+        ? ConditionEvaluationResult.enabled("Docker is available")
+        : ConditionEvaluationResult.disabled("Docker is not available");
+  }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package io.github.hogwartsschoolofmagic.user;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * <p> Base class for the tests that work with a real database. The database is started once in a
+ * container for all the tests and migrated by Liquibase, as in production. Only the repositories
+ * are created; the services under test are added by the test classes with {@link Import}. All the
+ * statements sent to the database are available from the {@link QueryRecorder}. The tests are
+ * skipped when Docker is not available. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.28
+ */
+@DataJpaTest(properties = {
+    "spring.cloud.config.enabled=false",
+    "spring.cloud.discovery.enabled=false",
+    "eureka.client.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = PostgresTest.Config.class)
+@ExtendWith(DockerAvailableCondition.class)
+public abstract class PostgresTest {
+
+  private static final PostgreSQLContainer<?> POSTGRES =
+      new PostgreSQLContainer<>("postgres:14-alpine");
+
+  private static final String TRUNCATE_USER_DATA_SQL =
+      "TRUNCATE users, verification_tokens, mail_outbox CASCADE";
+
+  static {
+    POSTGRES.start();
+  }
+
+  @DynamicPropertySource
+  static void datasourceProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+    registry.add("spring.datasource.username", POSTGRES::getUsername);
+    registry.add("spring.datasource.password", POSTGRES::getPassword);
+  }
+
+  /**
+   * Method for removing the users and everything linked to them, leaving the roles and privileges
+   * created by the migrations. Used by the tests that commit their data.
+   *
+   * @param jdbcTemplate template for working with the database.
+   */
+  protected static void truncateUserData(JdbcTemplate jdbcTemplate) {
+    jdbcTemplate.execute(TRUNCATE_USER_DATA_SQL);
+  }
+
+  /**
+   * Configuration of the entities, repositories and settings of the application.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @EntityScan("io.github.hogwartsschoolofmagic.user.persistence.model")
+  @EnableJpaRepositories("io.github.hogwartsschoolofmagic.user.persistence.dao")
+  @ConfigurationPropertiesScan("io.github.hogwartsschoolofmagic.user.config.properties")
+  @Import(QueryRecorder.class)
+  static class Config {
+
+    @Bean
+    MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package io.github.hogwartsschoolofmagic.user;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * <p> Recorder of the statements sent to the database. The data source of the application is
+ * wrapped in a proxy, so the statements of Hibernate and of the {@code JdbcTemplate} are recorded
+ * together with their parameters. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.28
+ */
+public class QueryRecorder implements BeanPostProcessor, QueryExecutionListener {
+
+  private final Queue<RecordedQuery> queries = new ConcurrentLinkedQueue<>();
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+      return ProxyDataSourceBuilder.create(dataSource)
+          .name(beanName)
+          .listener(this)
+          .build();
+    }
+    return bean;
+  }
+
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    // Do nothing
+  }
+
+  @Override
+  public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    for (var queryInfo : queryInfoList) {
+      var parameters = queryInfo.getParametersList();
+      queries.add(new RecordedQuery(queryInfo.getQuery(),
+          parameters.isEmpty() ? List.of() : List.copyOf(parameters.get(0))));
+    }
+  }
+
+  /**
+   * Method for forgetting the statements recorded so far.
+   */
+  public void reset() {
+    queries.clear();
+  }
+
+  /**
+   * Getting the statements recorded since the last reset.
+   *
+   * @return statements in the order of their execution.
+   */
+  public List<RecordedQuery> getQueries() {
+    return List.copyOf(queries);
+  }
+
+  /**
+   * Statement sent to the database.
+   *
+   * @param sql        text of the statement.
+   * @param parameters operations that set the parameters of the statement.
+   */
+  public record RecordedQuery(String sql, List<ParameterSetOperation> parameters) {
+
+    /**
+     * Method for setting the same parameters on another statement.
+     *
+     * @param statement statement with the same parameters.
+     * @throws SQLException the parameters could not be set.
+     */
+    public void bind(PreparedStatement statement) throws SQLException {
+      for (var parameter : parameters) {
+        try {
+          parameter.getMethod().invoke(statement, parameter.getArgs());
+        } catch (ReflectiveOperationException e) {
+          throw new SQLException("Could not set the parameter of " + sql, e);
+        }
+      }
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package io.github.hogwartsschoolofmagic.user.mail;
+
+import io.github.hogwartsschoolofmagic.user.config.ThymeleafConfiguration;
+import io.github.hogwartsschoolofmagic.user.config.properties.MessagesProperties;
+import io.github.hogwartsschoolofmagic.user.message.PrecompiledMessageSource;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.MessageSource;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+
+/**
+ * <p> Benchmark of rendering the registration confirmation letter. The "before" method renders
+ * the template with {@link SpringTemplateEngine} for each letter, as the mail service did before
+ * {@link ConfirmationEmailRenderer}. The "after" method inserts the token into the letter
+ * pre-rendered for the language. Each call takes the next of the prepared tokens. </p>
+ *
+ * <p> Run with {@code mvn test -P benchmarks -DskipTests -Dbenchmarks=ConfirmationEmailRenderer}.
+ * </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfirmationEmailRendererBenchmark {
+
+  private static final int TOKEN_COUNT = 1024;
+
+  /**
+   * Language of the letter.
+   */
+  @Param({"en", "ru"})
+  private String language;
+
+  private final MessageSource messages = new PrecompiledMessageSource(new MessagesProperties());
+  private final SpringTemplateEngine templateEngine = new ThymeleafConfiguration().templateEngine();
+  private final ConfirmationEmailRenderer renderer =
+      new ConfirmationEmailRenderer(messages, templateEngine);
+  private final String[] tokens = new String[TOKEN_COUNT];
+  private Locale locale;
+  private int next;
+
+  /**
+   * Preparing the tokens and rendering the letter once in each way, so that the template cache
+   * of Thymeleaf and the pre-rendered letter are ready.
+   */
+  @Setup
+  public void setUp() {
+    for (int i = 0; i < tokens.length; i++) {
+      tokens[i] = UUID.randomUUID().toString();
+    }
+    locale = Locale.forLanguageTag(language);
+    before();
+    after();
+  }
+
+  /**
+   * Rendering the letter with the template engine on every send, as before the change.
+   *
+   * @return subject and body of the letter.
+   */
+  @Benchmark
+  public String before() {
+    var templateModel = new HashMap<String, Object>();
+    templateModel.put("text",
+        messages.getMessage("email.registration.confirmation.text", null, locale));
+    templateModel.put("urlName",
+        messages.getMessage("email.registration.confirmation.url.name", null, locale));
+    templateModel.put("token", nextToken());
+
+    var thymeleafContext = new Context(locale);
+    thymeleafContext.setVariables(templateModel);
+    return messages.getMessage("email.registration.confirmation.subject", null, locale)
+        + templateEngine.process("email/confirmation-email", thymeleafContext);
+  }
+
+  /**
+   * Substituting the token into the pre-rendered letter.
+   *
+   * @return subject and body of the letter.
+   */
+  @Benchmark
+  public ConfirmationEmailRenderer.Letter after() {
+    return renderer.render(nextToken(), locale);
+  }
+
+  private String nextToken() {
+    return tokens[next++ & TOKEN_COUNT - 1];
+  }
+}
\ No newline at end of file
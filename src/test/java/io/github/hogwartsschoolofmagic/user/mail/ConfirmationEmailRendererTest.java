@@ -0,0 +1,78 @@
+package io.github.hogwartsschoolofmagic.user.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.hogwartsschoolofmagic.user.config.ThymeleafConfiguration;
+import io.github.hogwartsschoolofmagic.user.config.properties.MessagesProperties;
+import io.github.hogwartsschoolofmagic.user.message.PrecompiledMessageSource;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.context.MessageSource;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+
+/**
+ * <p> Test of the rendered confirmation letter. The letter with the token inserted into the
+ * pre-rendered text must be the same as the letter rendered by Thymeleaf for the token. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.17
+ */
+class ConfirmationEmailRendererTest {
+
+  private final MessageSource messages = new PrecompiledMessageSource(new MessagesProperties());
+  private final SpringTemplateEngine templateEngine = new ThymeleafConfiguration().templateEngine();
+  private final ConfirmationEmailRenderer renderer =
+      new ConfirmationEmailRenderer(messages, templateEngine);
+
+  static Stream<Arguments> tokens() {
+    return Stream.of(UUID.randomUUID().toString(), "a+b/c=d&e?f#g",
+            "<script>alert('\"')</script>", "token with spaces", "токен-ü")
+        .flatMap(token -> Stream.of(Locale.ENGLISH, Locale.forLanguageTag("ru"))
+            .map(locale -> Arguments.of(token, locale)));
+  }
+
+  @ParameterizedTest
+  @MethodSource("tokens")
+  void rendersSameLetterAsThymeleaf(String token, Locale locale) {
+    var letter = renderer.render(token, locale);
+
+    assertThat(letter.html()).isEqualTo(renderWithThymeleaf(token, locale));
+    assertThat(letter.subject()).isEqualTo(
+        messages.getMessage("email.registration.confirmation.subject", null, locale));
+  }
+
+  @Test
+  void rendersSameLetterAfterInvalidation() {
+    var token = UUID.randomUUID().toString();
+    renderer.render(token, Locale.ENGLISH);
+    renderer.invalidate();
+
+    assertThat(renderer.render(token, Locale.ENGLISH).html())
+        .isEqualTo(renderWithThymeleaf(token, Locale.ENGLISH));
+  }
+
+  @Test
+  void insertsTokenOfEachRecipient() {
+    var first = renderer.render("first-token", Locale.ENGLISH).html();
+    var second = renderer.render("second-token", Locale.ENGLISH).html();
+
+    assertThat(first).contains("confirmEmailToken=first-token").doesNotContain("second-token");
+    assertThat(second).contains("confirmEmailToken=second-token").doesNotContain("first-token");
+  }
+
+  private String renderWithThymeleaf(String token, Locale locale) {
+    var context = new Context(locale);
+    context.setVariable("text",
+        messages.getMessage("email.registration.confirmation.text", null, locale));
+    context.setVariable("urlName",
+        messages.getMessage("email.registration.confirmation.url.name", null, locale));
+    context.setVariable("token", token);
+    return templateEngine.process("email/confirmation-email", context);
+  }
+}
\ No newline at end of file
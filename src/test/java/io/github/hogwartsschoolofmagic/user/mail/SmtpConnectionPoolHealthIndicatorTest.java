@@ -0,0 +1,49 @@
+package io.github.hogwartsschoolofmagic.user.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import javax.mail.MessagingException;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+/**
+ * <p> Test of the health of the pool of connections to the mail server. An unavailable mail
+ * server must not take the service out of rotation. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.16
+ */
+class SmtpConnectionPoolHealthIndicatorTest {
+
+  private final SmtpConnectionPool smtpConnectionPool = mock(SmtpConnectionPool.class);
+  private final SmtpConnectionPoolHealthIndicator healthIndicator =
+      new SmtpConnectionPoolHealthIndicator(smtpConnectionPool);
+
+  @Test
+  void reportsConnections() {
+    when(smtpConnectionPool.getOpenConnections()).thenReturn(2);
+    when(smtpConnectionPool.getIdleConnections()).thenReturn(1);
+
+    var health = healthIndicator.health();
+
+    assertThat(health.getStatus()).isEqualTo(Status.UP);
+    assertThat(health.getDetails())
+        .containsEntry("open", 2)
+        .containsEntry("idle", 1)
+        .doesNotContainKey("lastConnectError");
+  }
+
+  @Test
+  void reportsConnectErrorAsDetail() {
+    when(smtpConnectionPool.getLastConnectError())
+        .thenReturn(new MessagingException("Connection refused"));
+
+    var health = healthIndicator.health();
+
+    assertThat(health.getStatus()).isEqualTo(Status.UP);
+    assertThat(health.getDetails()).containsEntry("lastConnectError",
+        "javax.mail.MessagingException: Connection refused");
+  }
+}
\ No newline at end of file
@@ -0,0 +1,206 @@
+package io.github.hogwartsschoolofmagic.user.persistence.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hogwartsschoolofmagic.user.PostgresTest;
+import io.github.hogwartsschoolofmagic.user.QueryRecorder;
+import io.github.hogwartsschoolofmagic.user.QueryRecorder.RecordedQuery;
+import io.github.hogwartsschoolofmagic.user.enumeration.MailDeliveryStatus;
+import io.github.hogwartsschoolofmagic.user.enumeration.Roles;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * <p> Test of the query plans of the repository finders. The tables are filled with enough rows
+ * for the planner to prefer an index, each finder is called, and every statement it sends is
+ * explained with the same parameters. A sequential scan of a table with more than
+ * {@value #SEQ_SCAN_ROW_THRESHOLD} rows fails the test: the finder is missing an index. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.28
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RepositoryQueryPlanTest extends PostgresTest {
+
+  private static final long SEQ_SCAN_ROW_THRESHOLD = 1_000;
+  private static final int SEEDED_USERS = 20_000;
+
+  private static final String SEED_USERS_SQL = """
+      INSERT INTO users (full_name, email, email_verified, auth_provider, auth_provider_id,
+                         password)
+      SELECT 'User ' || n, 'user' || n || '@hogwarts.test', true,
+             CASE WHEN n % 10 = 0 THEN 'GOOGLE' ELSE 'LOCAL' END,
+             CASE WHEN n % 10 = 0 THEN 'google-' || n END, 'hash'
+      FROM generate_series(1, ?) AS n
+      """;
+
+  private static final String SEED_USER_ROLES_SQL = """
+      INSERT INTO user_roles (user_id, role_id)
+      SELECT u.base_id, r.base_id FROM users u JOIN roles r ON r.value = 'ROLE_USER'
+      """;
+
+  private static final String SEED_USER_SETTINGS_SQL = """
+      INSERT INTO user_settings (name, value, user_id)
+      SELECT 'locale', 'en', base_id FROM users
+      """;
+
+  private static final String SEED_TOKENS_SQL = """
+      INSERT INTO verification_tokens (value, expiry_date)
+      SELECT 'token-' || n, now() + interval '1 day' FROM generate_series(1, ?) AS n
+      """;
+
+  private static final String SEED_USER_TOKENS_SQL = """
+      INSERT INTO user_token (user_id, token_id)
+      SELECT u.base_id, t.base_id
+      FROM (SELECT base_id, row_number() OVER (ORDER BY base_id) AS n FROM users) u
+      JOIN (SELECT base_id, row_number() OVER (ORDER BY base_id) AS n FROM verification_tokens) t
+        USING (n)
+      """;
+
+  private static final String SEED_OUTBOX_SQL = """
+      INSERT INTO mail_outbox (recipient, token, locale, delivery_status, next_attempt_date)
+      SELECT 'user' || n || '@hogwarts.test', 'token-' || n, 'en',
+             CASE WHEN n % 100 = 0 THEN 'PENDING' ELSE 'SENT' END, now() - interval '1 minute'
+      FROM generate_series(1, ?) AS n
+      """;
+
+  private static final String ROW_COUNT_SQL =
+      "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private QueryRecorder queryRecorder;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private RoleRepository roleRepository;
+
+  @Autowired
+  private VerificationTokenRepository tokenRepository;
+
+  @Autowired
+  private UserSettingRepository userSettingRepository;
+
+  @Autowired
+  private MailOutboxRepository outboxRepository;
+
+  private long userId;
+
+  @BeforeAll
+  void seed() {
+    truncateUserData(jdbcTemplate);
+    jdbcTemplate.update(SEED_USERS_SQL, SEEDED_USERS);
+    jdbcTemplate.update(SEED_USER_ROLES_SQL);
+    jdbcTemplate.update(SEED_USER_SETTINGS_SQL);
+    jdbcTemplate.update(SEED_TOKENS_SQL, SEEDED_USERS);
+    jdbcTemplate.update(SEED_USER_TOKENS_SQL);
+    jdbcTemplate.update(SEED_OUTBOX_SQL, SEEDED_USERS);
+    jdbcTemplate.execute("ANALYZE");
+    userId = jdbcTemplate.queryForObject("SELECT base_id FROM users WHERE email = ?", Long.class,
+        "user100@hogwarts.test");
+  }
+
+  @AfterAll
+  void clean() {
+    truncateUserData(jdbcTemplate);
+  }
+
+  @Test
+  void userFindersUseIndexes() {
+    assertNoSeqScans(() -> userRepository.findById(userId));
+    assertNoSeqScans(() -> userRepository.findByEmail("user100@hogwarts.test"));
+    assertNoSeqScans(() -> userRepository.findByProviderId("google-100"));
+    assertNoSeqScans(() -> userRepository.findWithAuthoritiesById(userId));
+    assertNoSeqScans(() -> userRepository.findWithAuthoritiesByEmail("user100@hogwarts.test"));
+    assertNoSeqScans(() -> userRepository.findWithAuthoritiesByProviderId("google-100"));
+    assertNoSeqScans(() -> userRepository.existsByEmail("user100@hogwarts.test"));
+    assertNoSeqScans(() -> userRepository.findAuthorizationVersionById(userId));
+  }
+
+  @Test
+  void roleFindersUseIndexes() {
+    assertNoSeqScans(() -> roleRepository.findByValue(Roles.ROLE_USER));
+    assertNoSeqScans(roleRepository::findAllWithPrivileges);
+  }
+
+  @Test
+  void tokenFindersUseIndexes() {
+    assertNoSeqScans(() -> tokenRepository.findByValue("token-100"));
+  }
+
+  @Test
+  void settingFindersUseIndexes() {
+    var user = userRepository.findById(userId).orElseThrow();
+    assertNoSeqScans(() -> userSettingRepository.findAllByUser(user));
+    assertNoSeqScans(() -> userSettingRepository.findFirstByUserIdAndName(userId, "locale"));
+  }
+
+  @Test
+  void outboxFindersUseIndexes() {
+    assertNoSeqScans(() -> outboxRepository.lockDueMessages(LocalDateTime.now(), 50));
+    assertNoSeqScans(() -> outboxRepository.countByDeliveryStatus(MailDeliveryStatus.PENDING));
+  }
+
+  private void assertNoSeqScans(Runnable finder) {
+    queryRecorder.reset();
+    finder.run();
+    var queries = queryRecorder.getQueries();
+    assertThat(queries).isNotEmpty();
+
+    for (var query : queries) {
+      var seqScans = new ArrayList<String>();
+      collectSeqScans(explain(query).path(0).path("Plan"), seqScans);
+      for (var relation : seqScans) {
+        var rows = jdbcTemplate.queryForObject(ROW_COUNT_SQL, Long.class, relation);
+        assertThat(rows)
+            .as("Seq Scan on %s (%d rows) for: %s", relation, rows, query.sql())
+            .isLessThanOrEqualTo(SEQ_SCAN_ROW_THRESHOLD);
+      }
+    }
+  }
+
+  private JsonNode explain(RecordedQuery query) {
+    var plan = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+      try (var statement = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + query.sql())) {
+        query.bind(statement);
+        try (var resultSet = statement.executeQuery()) {
+          resultSet.next();
+          return resultSet.getString(1);
+        }
+      }
+    });
+
+    try {
+      return objectMapper.readTree(plan);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not read the plan of " + query.sql(), e);
+    }
+  }
+
+  private static void collectSeqScans(JsonNode plan, List<String> relations) {
+    if ("Seq Scan".equals(plan.path("Node Type").asText())) {
+      relations.add(plan.path("Relation Name").asText());
+    }
+    plan.path("Plans").forEach(child -> collectSeqScans(child, relations));
+  }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package io.github.hogwartsschoolofmagic.user.persistence.model.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.hogwartsschoolofmagic.user.PostgresTest;
+import io.github.hogwartsschoolofmagic.user.QueryRecorder;
+import io.github.hogwartsschoolofmagic.user.enumeration.AuthProvider;
+import io.github.hogwartsschoolofmagic.user.enumeration.Roles;
+import io.github.hogwartsschoolofmagic.user.persistence.dao.RoleRepository;
+import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
+import io.github.hogwartsschoolofmagic.user.persistence.model.user.UserSetting;
+import java.util.Set;
+import javax.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * <p> Round-trip benchmark of creating users with a role and a setting each. The statements sent
+ * to the database are counted once with the configured JDBC batching and the pooled table
+ * sequences, and once with a JDBC batch size of one. The second run sends one statement per
+ * row, as the former identity columns did, since Hibernate could not batch their inserts. Both
+ * counts are written to the log. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.24
+ */
+@Slf4j
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BulkCreateRoundTripTest extends PostgresTest {
+
+  private static final int USERS = 500;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private RoleRepository roleRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private QueryRecorder queryRecorder;
+
+  @Test
+  void batchesInsertsOfUsersRolesAndSettings() {
+    var unbatched = createUsers(1);
+    var batched = createUsers(null);
+    log.info("Round trips to create {} users with a role and a setting: {} unbatched, {} batched",
+        USERS, unbatched, batched);
+
+    var blocks = (USERS + BaseEntity.ID_ALLOCATION_SIZE - 1) / BaseEntity.ID_ALLOCATION_SIZE;
+    assertThat(unbatched).isGreaterThanOrEqualTo(3 * USERS);
+    // Users, their roles and their settings, plus one id block of users and of settings.
+    assertThat(batched).isLessThanOrEqualTo(5 * (blocks + 1));
+  }
+
+  /**
+   * Creating the users in a transaction that is rolled back and counting the statements sent.
+   *
+   * @param batchSize JDBC batch size of the session, null for the configured one.
+   * @return number of statements sent to the database.
+   */
+  private int createUsers(Integer batchSize) {
+    var role = roleRepository.findByValue(Roles.ROLE_USER).orElseThrow();
+    var transactionTemplate = new TransactionTemplate(transactionManager);
+    return transactionTemplate.execute(status -> {
+      entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+      queryRecorder.reset();
+      for (int i = 0; i < USERS; i++) {
+        var user = new User();
+        user.setFullname("Student " + i);
+        user.setEmail("student" + i + "@hogwarts.test");
+        user.setEmailVerified(false);
+        user.setAuthProvider(AuthProvider.LOCAL);
+        user.setPassword("hash");
+        user.setRoles(Set.of(role));
+        entityManager.persist(user);
+
+        var setting = new UserSetting();
+        setting.setName("locale");
+        setting.setValue("en");
+        setting.setUser(user);
+        entityManager.persist(setting);
+      }
+      entityManager.flush();
+
+      var roundTrips = queryRecorder.getQueries().size();
+      status.setRollbackOnly();
+      return roundTrips;
+    });
+  }
+}
\ No newline at end of file
@@ -0,0 +1,171 @@
+package io.github.hogwartsschoolofmagic.user.persistence.model.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.hogwartsschoolofmagic.user.PostgresTest;
+import io.github.hogwartsschoolofmagic.user.QueryRecorder;
+import io.github.hogwartsschoolofmagic.user.QueryRecorder.RecordedQuery;
+import io.github.hogwartsschoolofmagic.user.enumeration.AuthProvider;
+import io.github.hogwartsschoolofmagic.user.persistence.dao.MailOutboxRepository;
+import io.github.hogwartsschoolofmagic.user.persistence.dao.RoleRepository;
+import io.github.hogwartsschoolofmagic.user.persistence.dao.UserRepository;
+import io.github.hogwartsschoolofmagic.user.persistence.model.mail.MailOutboxMessage;
+import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * <p> Test of the ids taken from the table sequences. Hibernate must take the ids in blocks of
+ * {@value BaseEntity#ID_ALLOCATION_SIZE} and insert new entities in JDBC batches, and the ids
+ * must not collide with the ones given to rows inserted by the column default or allocated by the
+ * bulk user insert. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.24
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TableSequenceIdGeneratorTest extends PostgresTest {
+
+  private static final int ENTITIES = 120;
+
+  private static final String SEQUENCE_SQL = "SELECT pg_get_serial_sequence(?, 'base_id')";
+
+  private static final String SEQUENCE_INCREMENT_SQL =
+      "SELECT seqincrement FROM pg_sequence WHERE seqrelid = pg_get_serial_sequence(?, 'base_id')"
+          + "::regclass";
+
+  private static final String INSERT_OUTBOX_SQL = """
+      INSERT INTO mail_outbox (recipient, token, locale, delivery_status, next_attempt_date)
+      VALUES ('jdbc@hogwarts.test', 'jdbc-token', 'en', 'SENT', now())
+      """;
+
+  private static final String OUTBOX_COUNT_SQL = "SELECT count(*) FROM mail_outbox";
+
+  private static final String USER_ROLES_COUNT_SQL = "SELECT count(*) FROM user_roles";
+
+  @Autowired
+  private MailOutboxRepository mailOutboxRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private RoleRepository roleRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private QueryRecorder queryRecorder;
+
+  @BeforeEach
+  void reset() {
+    queryRecorder.reset();
+  }
+
+  @AfterEach
+  void clean() {
+    truncateUserData(jdbcTemplate);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"users", "roles", "privileges", "user_settings", "verification_tokens",
+      "mail_outbox"})
+  void usesTableSequenceWithAllocationSizeIncrement(String table) {
+    assertThat(jdbcTemplate.queryForObject(SEQUENCE_SQL, String.class, table))
+        .endsWith(table + TableSequenceIdGenerator.SEQUENCE_SUFFIX);
+    assertThat(jdbcTemplate.queryForObject(SEQUENCE_INCREMENT_SQL, Long.class, table))
+        .isEqualTo(BaseEntity.ID_ALLOCATION_SIZE);
+  }
+
+  @Test
+  void takesIdsInBlocksAndInsertsInBatches() {
+    var saved = mailOutboxRepository.saveAll(messages(ENTITIES));
+
+    var ids = saved.stream().map(BaseEntity::getId).sorted().toList();
+    var blocks = (ENTITIES + BaseEntity.ID_ALLOCATION_SIZE - 1) / BaseEntity.ID_ALLOCATION_SIZE;
+    assertThat(ids).doesNotHaveDuplicates();
+    var runs = 1;
+    for (int i = 1; i < ids.size(); i++) {
+      if (ids.get(i) != ids.get(i - 1) + 1) {
+        runs++;
+      }
+    }
+    // A block left over by an earlier test may be finished first, so one more run is possible.
+    assertThat(runs).isLessThanOrEqualTo(blocks + 1);
+    assertThat(countQueries("nextval")).isLessThanOrEqualTo(blocks);
+    assertThat(countQueries("insert into mail_outbox")).isEqualTo(blocks);
+  }
+
+  @Test
+  void doesNotReuseIdsTakenByColumnDefault() {
+    jdbcTemplate.update(INSERT_OUTBOX_SQL);
+    mailOutboxRepository.saveAll(messages(10));
+    jdbcTemplate.update(INSERT_OUTBOX_SQL);
+    mailOutboxRepository.saveAll(messages(10));
+    jdbcTemplate.update(INSERT_OUTBOX_SQL);
+
+    assertThat(jdbcTemplate.queryForObject(OUTBOX_COUNT_SQL, Long.class)).isEqualTo(23);
+  }
+
+  @Test
+  void insertsUsersWithIdsInBlocks() {
+    var roles = roleRepository.findAll();
+    userRepository.insertAllIfEmailAbsent(users(0, 1), roles);
+    queryRecorder.reset();
+
+    var inserted = userRepository.insertAllIfEmailAbsent(users(0, ENTITIES), roles);
+
+    assertThat(queryRecorder.getQueries()).hasSize(2);
+    assertThat(inserted).hasSize(ENTITIES - 1)
+        .extracting(User::getEmail)
+        .doesNotContain("student0@hogwarts.test");
+    assertThat(inserted).extracting(BaseEntity::getId).doesNotHaveDuplicates();
+    assertThat(jdbcTemplate.queryForObject(USER_ROLES_COUNT_SQL, Long.class))
+        .isEqualTo((long) ENTITIES * roles.size());
+  }
+
+  private long countQueries(String fragment) {
+    return queryRecorder.getQueries().stream()
+        .map(RecordedQuery::sql)
+        .filter(sql -> sql.contains(fragment))
+        .count();
+  }
+
+  private static List<MailOutboxMessage> messages(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> {
+          var message = new MailOutboxMessage();
+          message.setRecipient("student" + i + "@hogwarts.test");
+          message.setToken("token-" + i);
+          message.setLocale("en");
+          message.setNextAttempt(LocalDateTime.now());
+          return message;
+        })
+        .toList();
+  }
+
+  private static List<User> users(int from, int to) {
+    return IntStream.range(from, to)
+        .mapToObj(i -> {
+          var user = new User();
+          user.setFullname("Student " + i);
+          user.setEmail("student" + i + "@hogwarts.test");
+          user.setEmailVerified(false);
+          user.setAuthProvider(AuthProvider.LOCAL);
+          user.setPassword("hash");
+          return user;
+        })
+        .toList();
+  }
+}
\ No newline at end of file
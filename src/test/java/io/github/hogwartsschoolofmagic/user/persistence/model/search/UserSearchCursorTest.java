@@ -0,0 +1,69 @@
+package io.github.hogwartsschoolofmagic.user.persistence.model.search;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.hogwartsschoolofmagic.user.enumeration.AuthProvider;
+import io.github.hogwartsschoolofmagic.user.persistence.model.base.BaseStatus;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * <p> Test of writing the position in the list of found users to the string sent to the client
+ * and reading it back. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.27
+ */
+class UserSearchCursorTest {
+
+  static Stream<UserSearchCursor> cursors() {
+    return Stream.of(
+        new UserSearchCursor(LocalDateTime.of(2022, 6, 1, 10, 0), 1),
+        new UserSearchCursor(LocalDateTime.of(2022, 6, 1, 10, 0, 59), 50),
+        new UserSearchCursor(LocalDateTime.of(2022, 6, 1, 10, 0, 59, 123_456_000), 12_345),
+        new UserSearchCursor(LocalDateTime.of(1999, 12, 31, 23, 59, 59, 999_999_999),
+            Long.MAX_VALUE));
+  }
+
+  @ParameterizedTest
+  @MethodSource("cursors")
+  void decodesEncodedCursor(UserSearchCursor cursor) {
+    var encoded = cursor.encode();
+
+    assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    assertThat(UserSearchCursor.decode(encoded)).isEqualTo(cursor);
+  }
+
+  @Test
+  void pointsAfterFoundUser() {
+    var created = LocalDateTime.of(2022, 6, 1, 10, 0);
+    var row = new UserSearchRow(42L, created, BaseStatus.ACTIVE, "Harry Potter", "harry",
+        "harry@hogwarts.test", true, AuthProvider.LOCAL);
+
+    assertThat(UserSearchCursor.after(row)).isEqualTo(new UserSearchCursor(created, 42));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"not base64!", "2022-06-01T10:00_1", "a"})
+  void rejectsMalformedCursor(String value) {
+    assertThatThrownBy(() -> UserSearchCursor.decode(value))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "no separator", "2022-13-01T10:00_1", "2022-06-01T10:00_",
+      "2022-06-01T10:00_one", "2022-06-01T10:00_99999999999999999999", "_1"})
+  void rejectsCursorWithInvalidPosition(String position) {
+    var value = Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(UTF_8));
+
+    assertThatThrownBy(() -> UserSearchCursor.decode(value))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package io.github.hogwartsschoolofmagic.user.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.github.hogwartsschoolofmagic.user.config.properties.PrincipalCacheProperties;
+import io.github.hogwartsschoolofmagic.user.enumeration.Roles;
+import io.github.hogwartsschoolofmagic.user.persistence.dao.UserRepository;
+import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * <p> Test of increasing the version of the user's rights. The version is increased by the
+ * database and the cached version changes only after the commit. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.6
+ */
+class AuthorizationVersionTrackerTest {
+
+  private static final long USER_ID = 42L;
+
+  private final UserRepository userRepository = mock(UserRepository.class);
+  private final AuthorizationVersionTracker tracker =
+      new AuthorizationVersionTracker(new PrincipalCacheProperties(), userRepository);
+
+  @BeforeEach
+  void setUp() {
+    TransactionSynchronizationManager.initSynchronization();
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.clearSynchronization();
+  }
+
+  @Test
+  void revokeTakesVersionFromDatabase() {
+    when(userRepository.findAuthorizationVersionById(USER_ID)).thenReturn(Optional.of(7));
+    var user = new User();
+    user.setId(USER_ID);
+    user.setAuthorizationVersion(1);
+
+    tracker.revoke(user);
+
+    var order = inOrder(userRepository);
+    order.verify(userRepository).incrementAuthorizationVersion(USER_ID);
+    order.verify(userRepository).findAuthorizationVersionById(USER_ID);
+    assertThat(user.getAuthorizationVersion()).isEqualTo(7);
+  }
+
+  @Test
+  void revokeChangesCachedVersionAfterCommit() {
+    when(userRepository.findAuthorizationVersionById(USER_ID))
+        .thenReturn(Optional.of(1), Optional.of(2));
+    var snapshot = snapshot(1);
+    assertThat(tracker.isCurrent(snapshot)).isTrue();
+    var user = new User();
+    user.setId(USER_ID);
+    user.setAuthorizationVersion(1);
+
+    tracker.revoke(user);
+
+    assertThat(tracker.isCurrent(snapshot)).isTrue();
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    assertThat(tracker.isCurrent(snapshot)).isFalse();
+    assertThat(tracker.isCurrent(snapshot(2))).isTrue();
+  }
+
+  @Test
+  void revokeKeepsCachedVersionOnRollback() {
+    when(userRepository.findAuthorizationVersionById(USER_ID))
+        .thenReturn(Optional.of(1), Optional.of(2));
+    var snapshot = snapshot(1);
+    assertThat(tracker.isCurrent(snapshot)).isTrue();
+    var user = new User();
+    user.setId(USER_ID);
+    user.setAuthorizationVersion(1);
+
+    tracker.revoke(user);
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(synchronization -> synchronization.afterCompletion(
+            TransactionSynchronization.STATUS_ROLLED_BACK));
+    assertThat(tracker.isCurrent(snapshot)).isTrue();
+  }
+
+  private static UserSnapshot snapshot(int authorizationVersion) {
+    return new UserSnapshot(USER_ID, "Minerva McGonagall", null, "minerva",
+        "minerva@hogwarts.test", true, null, authorizationVersion, Set.of(Roles.ROLE_USER));
+  }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package io.github.hogwartsschoolofmagic.user.security;
+
+import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * <p> Benchmark of a permission check of a security expression. The "before" method is the check
+ * that {@link CustomPermissionEvaluator} made before {@link PermissionIndex}: a parallel stream
+ * over the rights with upper-casing of the type and the permission on each call. The "after"
+ * method is the current evaluator with the index built for the principal. </p>
+ *
+ * <p> Run with {@code mvn test -P benchmarks -DskipTests -Dbenchmarks=CustomPermissionEvaluator}.
+ * </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomPermissionEvaluatorBenchmark {
+
+  /**
+   * Number of privileges of the user besides the two user privileges of the real schema.
+   */
+  @Param({"0", "30"})
+  private int extraPrivileges;
+
+  /**
+   * Checked permission: the granted one or the missing one.
+   */
+  @Param({"READ", "DELETE"})
+  private String permission;
+
+  private final CustomPermissionEvaluator evaluator = new CustomPermissionEvaluator();
+  private final User target = new User();
+  private Authentication authentication;
+
+  /**
+   * Building the rights of an administrator and the index of his permissions.
+   */
+  @Setup
+  public void setUp() {
+    var authorities = new ArrayList<GrantedAuthority>();
+    authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
+    authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
+    authorities.add(new SimpleGrantedAuthority("USER_READ_PRIVILEGE"));
+    authorities.add(new SimpleGrantedAuthority("USER_WRITE_PRIVILEGE"));
+    for (int i = 0; i < extraPrivileges; i++) {
+      authorities.add(new SimpleGrantedAuthority("ENTITY" + i + "_READ_PRIVILEGE"));
+    }
+
+    var principal = new UserPrincipal(target, authorities, PermissionIndex.of(authorities));
+    authentication = new UsernamePasswordAuthenticationToken(principal, null, authorities);
+  }
+
+  @Benchmark
+  public boolean before() {
+    var targetType = target.getClass().getSimpleName().toUpperCase();
+    return hasPrivilege(authentication.getAuthorities(), targetType, permission.toUpperCase());
+  }
+
+  @Benchmark
+  public boolean after() {
+    return evaluator.hasPermission(authentication, target, permission);
+  }
+
+  /**
+   * Check of the evaluator before {@link PermissionIndex}, kept here as the baseline.
+   *
+   * @param authorities user rights.
+   * @param targetType  upper-case entity type.
+   * @param permission  upper-case permission name.
+   * @return true if access rights are present, otherwise false.
+   */
+  private static boolean hasPrivilege(Collection<? extends GrantedAuthority> authorities,
+                                      String targetType, String permission) {
+    return authorities.parallelStream().anyMatch(
+        a -> a.getAuthority().startsWith(targetType) && a.getAuthority().contains(permission));
+  }
+}
\ No newline at end of file
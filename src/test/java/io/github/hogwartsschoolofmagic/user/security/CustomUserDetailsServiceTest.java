@@ -0,0 +1,96 @@
+package io.github.hogwartsschoolofmagic.user.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.hogwartsschoolofmagic.user.PostgresTest;
+import io.github.hogwartsschoolofmagic.user.QueryRecorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * <p> Test of the number of statements needed to load an authenticated user. The user has all
+ * the roles, each with its privileges, and a verification token; all of it must be read by one
+ * statement. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.7
+ */
+@Import({CustomUserDetailsService.class, PrincipalCache.class, RoleRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CustomUserDetailsServiceTest extends PostgresTest {
+
+  private static final String EMAIL = "minerva@hogwarts.test";
+
+  private static final String INSERT_USER_SQL = """
+      INSERT INTO users (full_name, email, email_verified, auth_provider, password)
+      VALUES ('Minerva McGonagall', ?, true, 'LOCAL', 'hash')
+      RETURNING base_id
+      """;
+
+  private static final String INSERT_USER_ROLES_SQL =
+      "INSERT INTO user_roles (user_id, role_id) SELECT ?, base_id FROM roles";
+
+  private static final String INSERT_TOKEN_SQL = """
+      WITH token AS (
+        INSERT INTO verification_tokens (value, expiry_date)
+        VALUES ('minerva-token', now() + interval '1 day')
+        RETURNING base_id
+      )
+      INSERT INTO user_token (user_id, token_id) SELECT ?, base_id FROM token
+      """;
+
+  @Autowired
+  private CustomUserDetailsService userDetailsService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private QueryRecorder queryRecorder;
+
+  private long userId;
+
+  @BeforeEach
+  void seed() {
+    userId = jdbcTemplate.queryForObject(INSERT_USER_SQL, Long.class, EMAIL);
+    jdbcTemplate.update(INSERT_USER_ROLES_SQL, userId);
+    jdbcTemplate.update(INSERT_TOKEN_SQL, userId);
+    queryRecorder.reset();
+  }
+
+  @AfterEach
+  void clean() {
+    truncateUserData(jdbcTemplate);
+  }
+
+  @Test
+  void loadsUserByIdWithOneStatement() {
+    var principal = userDetailsService.loadUserById(userId);
+
+    assertThat(queryRecorder.getQueries()).hasSize(1);
+    assertAllAuthorities(principal);
+  }
+
+  @Test
+  void loadsUserByUsernameWithOneStatement() {
+    var principal = userDetailsService.loadUserByUsername(" Minerva@Hogwarts.TEST");
+
+    assertThat(queryRecorder.getQueries()).hasSize(1);
+    assertAllAuthorities(principal);
+  }
+
+  private static void assertAllAuthorities(UserDetails principal) {
+    assertThat(principal.getAuthorities())
+        .extracting(GrantedAuthority::getAuthority)
+        .containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN", "USER_READ_PRIVILEGE",
+            "USER_WRITE_PRIVILEGE");
+  }
+}
\ No newline at end of file
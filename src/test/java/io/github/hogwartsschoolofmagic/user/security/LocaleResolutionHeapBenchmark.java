@@ -0,0 +1,174 @@
+package io.github.hogwartsschoolofmagic.user.security;
+
+import io.github.hogwartsschoolofmagic.user.enumeration.AuthProvider;
+import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.apache.catalina.core.StandardContext;
+import org.apache.catalina.session.StandardManager;
+import org.apache.catalina.util.StandardSessionIdGenerator;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+
+/**
+ * <p> Heap comparison of resolving the request language under load. Each request comes from a
+ * client with a token and without a session cookie, as the clients of the REST API do. </p>
+ *
+ * <p> In the "session" mode each request leaves what the session-scoped configuration kept in a
+ * new Tomcat session: the security context with the user principal and the targets of the
+ * session-scoped message and user setting services. The sessions stay in the session manager, as
+ * they did until their timeout of 30 minutes. In the "stateless" mode the language is resolved by
+ * {@link UserLocaleResolver} from a request attribute and nothing outlives the request. The
+ * result "retainedBytesPerRequest" is the growth of the used heap after a full collection divided
+ * by the number of requests; the time score is only the time of the load itself. The load is
+ * measured once, because JMH sums such counters over the iterations. </p>
+ *
+ * <p> Run with {@code mvn test -P benchmarks -DskipTests -Dbenchmarks=LocaleResolutionHeap}.
+ * </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class LocaleResolutionHeapBenchmark {
+
+  private static final String SESSION = "session";
+  private static final Locale RUSSIAN = new Locale("ru");
+
+  /**
+   * Way of keeping the language: a session per request or nothing.
+   */
+  @Param({SESSION, "stateless"})
+  private String mode;
+
+  /**
+   * Number of requests of the load.
+   */
+  @Param({"20000"})
+  private int requests;
+
+  private final UserLocaleResolver localeResolver = new UserLocaleResolver();
+  private final List<GrantedAuthority> authorities = List.of(
+      new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("USER_READ_PRIVILEGE"));
+  private final PermissionIndex permissionIndex = PermissionIndex.of(authorities);
+
+  /**
+   * Counters of the heap kept after the load.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Heap {
+
+    /**
+     * Growth of the used heap per request.
+     */
+    public long retainedBytesPerRequest;
+  }
+
+  /**
+   * Running the load and measuring the heap kept by it.
+   *
+   * @param heap counters of the heap.
+   * @return the objects kept by the load.
+   */
+  @Benchmark
+  public Object load(Heap heap) {
+    var baseline = usedHeapAfterGc();
+    var retained = SESSION.equals(mode) ? loadWithSessions() : loadStateless();
+    heap.retainedBytesPerRequest = (usedHeapAfterGc() - baseline) / requests;
+    Reference.reachabilityFence(retained);
+    return retained;
+  }
+
+  private Object loadWithSessions() {
+    var manager = new StandardManager();
+    manager.setContext(new StandardContext());
+    manager.setSessionIdGenerator(new StandardSessionIdGenerator());
+    for (int i = 0; i < requests; i++) {
+      var request = request();
+      var session = manager.createSession(null).getSession();
+      var securityContext = SecurityContextHolder.createEmptyContext();
+      securityContext.setAuthentication(authenticate(i));
+      session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+          securityContext);
+      session.setAttribute("scopedTarget.messageServiceImpl",
+          new SessionScopedService(localeResolver, request.getLocale()));
+      session.setAttribute("scopedTarget.userSettingServiceImpl",
+          new SessionScopedService(localeResolver, null));
+    }
+    return manager;
+  }
+
+  private Object loadStateless() {
+    var locales = new ArrayList<Locale>(1);
+    for (int i = 0; i < requests; i++) {
+      var request = request();
+      authenticate(i);
+      UserLocaleResolver.setUserLocale(request, RUSSIAN);
+      var locale = localeResolver.resolveLocale(request);
+      if (i == 0) {
+        locales.add(locale);
+      }
+    }
+    return locales;
+  }
+
+  private static MockHttpServletRequest request() {
+    var request = new MockHttpServletRequest("GET", "/user/me");
+    request.addHeader("Accept-Language", "ru");
+    return request;
+  }
+
+  private UsernamePasswordAuthenticationToken authenticate(long id) {
+    var user = new User();
+    user.setId(id);
+    user.setFullname("Minerva McGonagall");
+    user.setEmail("minerva" + id + "@hogwarts.test");
+    user.setEmailVerified(true);
+    user.setAuthProvider(AuthProvider.LOCAL);
+    var principal = new UserPrincipal(user, authorities, permissionIndex);
+    return new UsernamePasswordAuthenticationToken(principal, null, authorities);
+  }
+
+  private static long usedHeapAfterGc() {
+    var memory = ManagementFactory.getMemoryMXBean();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return memory.getHeapMemoryUsage().getUsed();
+  }
+
+  /**
+   * Target of a former session-scoped service: two references, like the message service with its
+   * message source and language, or the user setting service with its repository.
+   *
+   * @param dependency shared dependency of the service.
+   * @param locale     language of the session, if the service kept one.
+   */
+  private record SessionScopedService(Object dependency, Locale locale) {
+  }
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+package io.github.hogwartsschoolofmagic.user.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.hogwartsschoolofmagic.user.config.properties.JwtProperties;
+import io.github.hogwartsschoolofmagic.user.enumeration.AuthProvider;
+import io.github.hogwartsschoolofmagic.user.enumeration.Roles;
+import io.github.hogwartsschoolofmagic.user.persistence.model.user.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * <p> Test of the user copy written into the token in stateless mode. Only the names of the roles
+ * are written, so that their privileges are always taken from {@link RoleRegistry}. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.6
+ */
+class TokenProviderTest {
+
+  private final TokenProvider tokenProvider = tokenProvider();
+
+  @Test
+  void writesOnlyRoleNames() {
+    var token = tokenProvider.verifyToken(tokenProvider.createToken(authentication()));
+
+    assertThat(token.claims()).doesNotContainKey("authorities");
+    assertThat(token.claims().get("roles")).asList().containsExactly("ROLE_ADMIN");
+    assertThat(tokenProvider.getUserSnapshot(token)).hasValueSatisfying(snapshot -> {
+      assertThat(snapshot.id()).isEqualTo(42L);
+      assertThat(snapshot.authorizationVersion()).isEqualTo(3);
+      assertThat(snapshot.roles()).containsExactly(Roles.ROLE_ADMIN);
+    });
+  }
+
+  private static Authentication authentication() {
+    var user = new User();
+    user.setId(42L);
+    user.setFullname("Minerva McGonagall");
+    user.setEmail("minerva@hogwarts.test");
+    user.setEmailVerified(true);
+    user.setAuthProvider(AuthProvider.LOCAL);
+    user.setAuthorizationVersion(3);
+    var authorities = Set.of(new SimpleGrantedAuthority("ROLE_ADMIN"),
+        new SimpleGrantedAuthority("USER_DELETE"));
+    var principal = new UserPrincipal(user, authorities, PermissionIndex.of(authorities));
+    return new UsernamePasswordAuthenticationToken(principal, null, authorities);
+  }
+
+  private static TokenProvider tokenProvider() {
+    var jwtProperties = new JwtProperties();
+    var auth = jwtProperties.getAuth();
+    auth.setTokenSecret("hogwarts-secret");
+    auth.setTokenExpirationMsec(60_000);
+    auth.setStateless(true);
+    return new TokenProvider(jwtProperties,
+        new VerifiedTokenCache(jwtProperties, new SimpleMeterRegistry()));
+  }
+}
\ No newline at end of file
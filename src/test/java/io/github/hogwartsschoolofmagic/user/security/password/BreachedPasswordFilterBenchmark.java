@@ -0,0 +1,217 @@
+package io.github.hogwartsschoolofmagic.user.security.password;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.github.hogwartsschoolofmagic.user.config.properties.PasswordPolicyProperties;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * <p> Benchmark of the breached password filter built from a list of hashes of generated
+ * passwords. The lookup methods measure the latency of checking a breached password and an
+ * unknown one. The "falsePositives" method checks a million unknown passwords once and reports the
+ * false positives per million, the size of the filter file, the heap taken by the filter and the
+ * resident memory of the mapped file read from /proc/self/status. </p>
+ *
+ * <p> Run with {@code mvn test -P benchmarks -DskipTests -Dbenchmarks=BreachedPasswordFilter}.
+ * </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.21
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BreachedPasswordFilterBenchmark {
+
+  private static final int PROBES = 1_000_000;
+  private static final int LOOKUP_PASSWORDS = 1024;
+
+  /**
+   * Number of breached passwords in the filter.
+   */
+  @Param({"1000000"})
+  private int entries;
+
+  /**
+   * Expected false positive rate the filter is built for.
+   */
+  @Param({"0.001"})
+  private double falsePositiveRate;
+
+  private Path directory;
+  private BreachedPasswordFilter filter;
+  private long fileBytes;
+  private long heapBytes;
+  private long baselineRssFileKilobytes;
+  private final String[] breached = new String[LOOKUP_PASSWORDS];
+  private final String[] unknown = new String[LOOKUP_PASSWORDS];
+  private int next;
+  private int round;
+
+  /**
+   * Counters of the false positive run.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Counters {
+
+    /**
+     * Unknown passwords found by the filter per million checked.
+     */
+    public long falsePositivesPerMillion;
+
+    /**
+     * Size of the filter file.
+     */
+    public long fileKilobytes;
+
+    /**
+     * Growth of the used heap after creating the filter.
+     */
+    public long heapKilobytes;
+
+    /**
+     * Growth of the resident file-backed memory after checking the passwords.
+     */
+    public long residentKilobytes;
+  }
+
+  /**
+   * Writing the hash list, building the filter file and mapping it.
+   *
+   * @throws IOException the files could not be written.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("breached-benchmark-");
+    var hashList = directory.resolve("hashes.txt");
+    var hex = HexFormat.of().withUpperCase();
+    var sha1 = sha1();
+    try (var writer = Files.newBufferedWriter(hashList, US_ASCII)) {
+      for (int i = 0; i < entries; i++) {
+        writer.write(hex.formatHex(sha1.digest(("password" + i).getBytes(UTF_8))));
+        writer.write(":1\n");
+      }
+    }
+    var filterFile = directory.resolve("breached.bin");
+    BreachedPasswordFilterBuilder.build(hashList, filterFile, falsePositiveRate);
+    Files.delete(hashList);
+    fileBytes = Files.size(filterFile);
+
+    for (int i = 0; i < LOOKUP_PASSWORDS; i++) {
+      breached[i] = "password" + (long) i * entries / LOOKUP_PASSWORDS;
+      unknown[i] = "unknown" + i;
+    }
+
+    var properties = new PasswordPolicyProperties();
+    properties.setBreachedFilter(filterFile.toString());
+    // The collection also unmaps the file written by the builder before the baseline is read.
+    var heapBefore = usedHeapAfterGc();
+    baselineRssFileKilobytes = rssFileKilobytes();
+    filter = new BreachedPasswordFilter(properties);
+    heapBytes = usedHeapAfterGc() - heapBefore;
+  }
+
+  /**
+   * Deleting the filter file.
+   *
+   * @throws IOException the directory could not be deleted.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    FileSystemUtils.deleteRecursively(directory);
+  }
+
+  @Benchmark
+  public boolean lookupBreached() {
+    return filter.mightContain(breached[next++ & LOOKUP_PASSWORDS - 1]);
+  }
+
+  @Benchmark
+  public boolean lookupUnknown() {
+    return filter.mightContain(unknown[next++ & LOOKUP_PASSWORDS - 1]);
+  }
+
+  /**
+   * Checking a million passwords that are not in the filter.
+   *
+   * @param counters counters of the run.
+   * @return number of false positives.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 0)
+  @Measurement(iterations = 1)
+  public long falsePositives(Counters counters) throws IOException {
+    var prefix = "probe" + round++ + "-";
+    var falsePositives = 0L;
+    for (int i = 0; i < PROBES; i++) {
+      if (filter.mightContain(prefix + i)) {
+        falsePositives++;
+      }
+    }
+
+    counters.falsePositivesPerMillion = falsePositives * 1_000_000 / PROBES;
+    counters.fileKilobytes = fileBytes >> 10;
+    counters.heapKilobytes = heapBytes >> 10;
+    counters.residentKilobytes = rssFileKilobytes() - baselineRssFileKilobytes;
+    return falsePositives;
+  }
+
+  private static long usedHeapAfterGc() {
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+
+  private static long rssFileKilobytes() throws IOException {
+    var status = Path.of("/proc/self/status");
+    if (!Files.exists(status)) {
+      return 0;
+    }
+
+    try (var lines = Files.lines(status)) {
+      return lines.filter(line -> line.startsWith("RssFile:"))
+          .map(line -> line.replaceAll("\\D", ""))
+          .mapToLong(Long::parseLong)
+          .findFirst()
+          .orElse(0);
+    }
+  }
+
+  private static MessageDigest sha1() {
+    try {
+      return MessageDigest.getInstance("SHA-1");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,149 @@
+package io.github.hogwartsschoolofmagic.user.security.password;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.hogwartsschoolofmagic.user.config.properties.PasswordPolicyProperties;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * <p> Test of the breached password filter built from a hash list. Every password of the list
+ * must be found by the filter, and passwords that are not in the list must be found no more often
+ * than the false positive rate allows. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.21
+ */
+class BreachedPasswordFilterTest {
+
+  private static final int BREACHED_PASSWORDS = 5_000;
+  private static final int PROBES = 50_000;
+  private static final double FALSE_POSITIVE_RATE = 0.01;
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void findsEveryBreachedPassword() throws IOException {
+    var passwords = new ArrayList<String>();
+    passwords.add("Alohomora1!");
+    passwords.add("пароль123");
+    IntStream.range(0, BREACHED_PASSWORDS).mapToObj(i -> "password" + i).forEach(passwords::add);
+
+    var filter = buildFilter(passwords);
+
+    assertThat(passwords).allMatch(filter::mightContain);
+  }
+
+  @Test
+  void keepsFalsePositivesNearTheRate() throws IOException {
+    var filter = buildFilter(IntStream.range(0, BREACHED_PASSWORDS)
+        .mapToObj(i -> "password" + i)
+        .toList());
+
+    var falsePositives = IntStream.range(0, PROBES)
+        .mapToObj(i -> UUID.randomUUID().toString())
+        .filter(filter::mightContain)
+        .count();
+
+    assertThat((double) falsePositives / PROBES).isLessThan(FALSE_POSITIVE_RATE * 2);
+  }
+
+  @Test
+  void rejectsHeaderWithoutHashFunctions() throws IOException {
+    var file = writeHeader(BreachedPasswordFilter.MAGIC, 0, 1024);
+
+    assertThatThrownBy(() -> new BreachedPasswordFilter(properties(file)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("invalid header");
+  }
+
+  @Test
+  void rejectsHeaderWithoutBits() throws IOException {
+    var file = writeHeader(BreachedPasswordFilter.MAGIC, 3, 0);
+
+    assertThatThrownBy(() -> new BreachedPasswordFilter(properties(file)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("invalid header");
+  }
+
+  @Test
+  void rejectsFileOfAnotherFormat() throws IOException {
+    var file = writeHeader(0x12345678, 3, 1024);
+
+    assertThatThrownBy(() -> new BreachedPasswordFilter(properties(file)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("is not a breached password filter");
+  }
+
+  @Test
+  void rejectsTruncatedFile() throws IOException {
+    var file = writeHeader(BreachedPasswordFilter.MAGIC, 3, 1024);
+
+    assertThatThrownBy(() -> new BreachedPasswordFilter(properties(file)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("is truncated");
+  }
+
+  @Test
+  void rejectsListWithoutHashes() throws IOException {
+    var hashList = Files.writeString(directory.resolve("hashes.txt"), "not a hash\n", US_ASCII);
+
+    assertThatThrownBy(() -> BreachedPasswordFilterBuilder.build(hashList,
+        directory.resolve("breached.bin"), FALSE_POSITIVE_RATE))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private BreachedPasswordFilter buildFilter(List<String> passwords) throws IOException {
+    var hex = HexFormat.of().withUpperCase();
+    var sha1 = sha1();
+    var lines = new ArrayList<String>(passwords.size());
+    for (int i = 0; i < passwords.size(); i++) {
+      var hash = hex.formatHex(sha1.digest(passwords.get(i).getBytes(UTF_8)));
+      lines.add(i % 2 == 0 ? hash : hash + ":" + (i + 1));
+    }
+    var hashList = Files.write(directory.resolve("hashes.txt"), lines, US_ASCII);
+    var filterFile = directory.resolve("breached.bin");
+
+    BreachedPasswordFilterBuilder.build(hashList, filterFile, FALSE_POSITIVE_RATE);
+    return new BreachedPasswordFilter(properties(filterFile));
+  }
+
+  private Path writeHeader(int magic, int hashCount, long bitCount) throws IOException {
+    var header = ByteBuffer.allocate(BreachedPasswordFilter.HEADER_SIZE)
+        .putInt(magic)
+        .putInt(BreachedPasswordFilter.VERSION)
+        .putInt(hashCount)
+        .putLong(bitCount)
+        .putLong(1);
+    return Files.write(directory.resolve("breached.bin"), header.array());
+  }
+
+  private static PasswordPolicyProperties properties(Path filterFile) {
+    var properties = new PasswordPolicyProperties();
+    properties.setBreachedFilter(filterFile.toString());
+    return properties;
+  }
+
+  private static MessageDigest sha1() {
+    try {
+      return MessageDigest.getInstance("SHA-1");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,122 @@
+package io.github.hogwartsschoolofmagic.user.security.password;
+
+import io.github.hogwartsschoolofmagic.user.config.properties.PasswordPolicyProperties;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.passay.AlphabeticalCharacterRule;
+import org.passay.DigitCharacterRule;
+import org.passay.LengthRule;
+import org.passay.LowercaseCharacterRule;
+import org.passay.PasswordData;
+import org.passay.PasswordValidator;
+import org.passay.PropertiesMessageResolver;
+import org.passay.SpecialCharacterRule;
+import org.passay.UppercaseCharacterRule;
+import org.passay.WhitespaceRule;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.io.DefaultResourceLoader;
+
+/**
+ * <p> Benchmark of the password check made on registration. The "before" method is the check of
+ * the validator before {@link PasswordPolicy}: the messages file is read and the Passay rules are
+ * built on each call, after which the password is validated and the messages are collected. The
+ * "after" method is {@link PasswordPolicy#getViolations(String)}. Each call takes the next
+ * password of a corpus of valid or invalid passwords. </p>
+ *
+ * <p> Run with {@code mvn test -P benchmarks -DskipTests -Dbenchmarks=PasswordPolicy}. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.20
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PasswordPolicyBenchmark {
+
+  private static final List<String> VALID = List.of("Alohomora1!", "Expelliarmus7#",
+      "Lumos-Maxima9", "Nox.Nox.2", "Wingardium1$", "Accio~Broom4", "Riddikulus0%", "Crucio8&A");
+  private static final List<String> INVALID = List.of("alohomora1!", "EXPELLIARMUS7#",
+      "Lumos Maxima9", "Nox", "Wingardium", "Accio~Broom~Nimbus2000", "12345678", "Крусио1!A");
+
+  /**
+   * Corpus of the passwords: valid or invalid.
+   */
+  @Param({"valid", "invalid"})
+  private String corpus;
+
+  private final PasswordPolicy passwordPolicy = new PasswordPolicy(
+      new PasswordPolicyProperties(), new DefaultResourceLoader(),
+      new StaticListableBeanFactory().getBeanProvider(BreachedPasswordFilter.class));
+  private List<String> passwords;
+  private int next;
+
+  /**
+   * Choosing the corpus of the passwords.
+   */
+  @Setup
+  public void setUp() {
+    passwords = "valid".equals(corpus) ? VALID : INVALID;
+  }
+
+  /**
+   * Building the validator and loading its messages on every registration, as before the change.
+   *
+   * @return messages about the violated rules.
+   */
+  @Benchmark
+  public List<String> before() {
+    var validator = new PasswordValidator(new PropertiesMessageResolver(loadMessages()), List.of(
+        new LengthRule(8, 16),
+        new UppercaseCharacterRule(1),
+        new LowercaseCharacterRule(1),
+        new DigitCharacterRule(1),
+        new SpecialCharacterRule(1),
+        new AlphabeticalCharacterRule(1),
+        new WhitespaceRule()));
+
+    var result = validator.validate(new PasswordData(nextPassword()));
+    return result.isValid() ? List.of() : validator.getMessages(result);
+  }
+
+  /**
+   * Validating the password with the shared password policy.
+   *
+   * @return messages about the violated rules.
+   */
+  @Benchmark
+  public List<String> after() {
+    return passwordPolicy.getViolations(nextPassword());
+  }
+
+  private String nextPassword() {
+    return passwords.get(next++ & passwords.size() - 1);
+  }
+
+  private Properties loadMessages() {
+    var messages = new Properties();
+    try (var inputStream = getClass().getClassLoader()
+        .getResourceAsStream("password.properties")) {
+      messages.load(inputStream);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return messages;
+  }
+}
\ No newline at end of file
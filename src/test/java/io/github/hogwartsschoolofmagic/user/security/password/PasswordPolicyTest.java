@@ -0,0 +1,126 @@
+package io.github.hogwartsschoolofmagic.user.security.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.hogwartsschoolofmagic.user.config.properties.PasswordPolicyProperties;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.passay.AlphabeticalCharacterRule;
+import org.passay.DigitCharacterRule;
+import org.passay.LengthRule;
+import org.passay.LowercaseCharacterRule;
+import org.passay.PasswordData;
+import org.passay.PasswordValidator;
+import org.passay.SpecialCharacterRule;
+import org.passay.UppercaseCharacterRule;
+import org.passay.WhitespaceRule;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.io.DefaultResourceLoader;
+
+/**
+ * <p> Test of the quick password check against the Passay rules it replaces. A password accepted
+ * by the quick check must be accepted by the Passay rules, and a password of visible ASCII
+ * characters must get the same answer from both. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.20
+ */
+class PasswordPolicyTest {
+
+  private static final String VISIBLE_ASCII = IntStream.rangeClosed('!', '~')
+      .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+      .toString();
+  private static final String OTHER_CHARACTERS = " \t\n ÄéßПароль٣ 😀";
+  private static final int RANDOM_PASSWORDS = 10_000;
+
+  private final PasswordPolicyProperties properties = new PasswordPolicyProperties();
+  private final PasswordPolicy passwordPolicy = new PasswordPolicy(properties,
+      new DefaultResourceLoader(),
+      new StaticListableBeanFactory().getBeanProvider(BreachedPasswordFilter.class));
+  private final PasswordValidator passayValidator = new PasswordValidator(List.of(
+      new LengthRule(properties.getMinLength(), properties.getMaxLength()),
+      new UppercaseCharacterRule(properties.getMinUppercase()),
+      new LowercaseCharacterRule(properties.getMinLowercase()),
+      new DigitCharacterRule(properties.getMinDigits()),
+      new SpecialCharacterRule(properties.getMinSpecial()),
+      new AlphabeticalCharacterRule(properties.getMinAlphabetical()),
+      new WhitespaceRule()));
+
+  static Stream<String> asciiPasswords() {
+    return Stream.of("Alohomora1!", "alohomora1!", "ALOHOMORA1!", "Alohomora!!", "Alohomora11",
+        "Aa1!", "Aa1!aaaa", "Aa1!aaa", "Aa1!aaaaaaaaaaaa", "Aa1!aaaaaaaaaaaaa", "12345678",
+        "~~~~~~~~", "Z0~zzzzz", "A0`aaaaa", "a{B}1[2]", "");
+  }
+
+  static Stream<String> otherPasswords() {
+    return Stream.of("Alohomora 1!", "Alohomora1!\t", "Alohomora1! ", "Пароль1!Aa",
+        "Алохомора1!", "Äéß1!Aaaa", "Aa!aaaa٣", "Aa1!aaa😀", "Aa1!aaaa ", "\u0000Aa1!aaaa");
+  }
+
+  @ParameterizedTest
+  @MethodSource("asciiPasswords")
+  void agreesWithPassayOnAsciiPasswords(String password) {
+    assertAgreesWithPassay(password);
+  }
+
+  @ParameterizedTest
+  @MethodSource("otherPasswords")
+  void leavesOtherCharactersToPassay(String password) {
+    assertThat(passwordPolicy.isCompliant(password)).isFalse();
+    assertThat(passwordPolicy.getViolations(password).isEmpty())
+        .as(password)
+        .isEqualTo(isValidForPassay(password));
+  }
+
+  @Test
+  void agreesWithPassayOnRandomAsciiPasswords() {
+    var random = new Random(20);
+    for (int i = 0; i < RANDOM_PASSWORDS; i++) {
+      assertAgreesWithPassay(randomPassword(random, VISIBLE_ASCII));
+    }
+  }
+
+  @Test
+  void acceptsOnlyPasswordsValidForPassay() {
+    var random = new Random(17);
+    for (int i = 0; i < RANDOM_PASSWORDS; i++) {
+      var password = randomPassword(random, VISIBLE_ASCII + OTHER_CHARACTERS);
+      if (passwordPolicy.isCompliant(password)) {
+        assertThat(isValidForPassay(password)).as(password).isTrue();
+      }
+      assertThat(passwordPolicy.getViolations(password).isEmpty())
+          .as(password)
+          .isEqualTo(isValidForPassay(password));
+    }
+  }
+
+  @Test
+  void rejectsMissingPassword() {
+    assertThat(passwordPolicy.isCompliant(null)).isFalse();
+  }
+
+  private void assertAgreesWithPassay(String password) {
+    var valid = isValidForPassay(password);
+    assertThat(passwordPolicy.isCompliant(password)).as(password).isEqualTo(valid);
+    assertThat(passwordPolicy.getViolations(password).isEmpty()).as(password).isEqualTo(valid);
+  }
+
+  private boolean isValidForPassay(String password) {
+    return passayValidator.validate(new PasswordData(password)).isValid();
+  }
+
+  private static String randomPassword(Random random, String alphabet) {
+    var codePoints = alphabet.codePoints().toArray();
+    var length = 6 + random.nextInt(13);
+    var password = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      password.appendCodePoint(codePoints[random.nextInt(codePoints.length)]);
+    }
+    return password.toString();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+package io.github.hogwartsschoolofmagic.user.service.exports;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.hogwartsschoolofmagic.user.enumeration.AuthProvider;
+import io.github.hogwartsschoolofmagic.user.enumeration.UserFileFormat;
+import io.github.hogwartsschoolofmagic.user.persistence.model.base.BaseStatus;
+import io.github.hogwartsschoolofmagic.user.persistence.model.export.UserExportFilter;
+import io.github.hogwartsschoolofmagic.user.persistence.model.export.UserExportRow;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * <p> Test of the written export file. The text columns of CSV are quoted when needed, and the
+ * values that a spreadsheet would evaluate as a formula are prefixed with an apostrophe. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.26
+ */
+class UserExportWriterTest {
+
+  private static final LocalDateTime CREATED = LocalDateTime.of(2022, 6, 1, 10, 0);
+  private static final String EMAIL = "harry@hogwarts.test";
+  private static final String HEADER =
+      "id,created,status,fullname,email,email_verified,auth_provider,last_visit\n";
+
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+  static Stream<Arguments> fullnames() {
+    return Stream.of(
+        Arguments.of("Harry Potter", "Harry Potter"),
+        Arguments.of("", ""),
+        Arguments.of("Harry=Potter", "Harry=Potter"),
+        Arguments.of("Potter, Harry", "\"Potter, Harry\""),
+        Arguments.of("Harry \"The Boy\"", "\"Harry \"\"The Boy\"\"\""),
+        Arguments.of("Harry\nPotter", "\"Harry\nPotter\""),
+        Arguments.of("=HYPERLINK(\"http://evil.test\")",
+            "\"'=HYPERLINK(\"\"http://evil.test\"\")\""),
+        Arguments.of("+1+1", "\"'+1+1\""),
+        Arguments.of("-1+1", "\"'-1+1\""),
+        Arguments.of("@SUM(A1:A2)", "\"'@SUM(A1:A2)\""),
+        Arguments.of("\t=1+1", "\"'\t=1+1\""),
+        Arguments.of("\r=1+1", "\"'\r=1+1\""));
+  }
+
+  @ParameterizedTest
+  @MethodSource("fullnames")
+  void escapesTextColumns(String fullname, String expected) throws IOException {
+    var csv = write(UserFileFormat.CSV, filter(false), row(fullname));
+
+    assertThat(csv).isEqualTo(HEADER + "1,2022-06-01 10:00:00,ACTIVE," + expected + "," + EMAIL
+        + ",true,LOCAL,\n");
+  }
+
+  @Test
+  void escapesRolesAndSettings() throws IOException {
+    var row = new UserExportRow(1L, CREATED, BaseStatus.ACTIVE, "Harry", EMAIL, true,
+        AuthProvider.LOCAL, CREATED, List.of("=ROLE_USER", "ROLE_ADMIN"),
+        Map.of("signature", "=cmd"));
+
+    var csv = write(UserFileFormat.CSV, filter(true), row);
+
+    assertThat(csv).isEqualTo(HEADER.replace("\n", ",roles,settings\n")
+        + "1,2022-06-01 10:00:00,ACTIVE,Harry," + EMAIL + ",true,LOCAL,2022-06-01 10:00:00,"
+        + "\"'=ROLE_USER;ROLE_ADMIN\",\"{\"\"signature\"\":\"\"=cmd\"\"}\"\n");
+  }
+
+  @Test
+  void writesJsonValuesAsTheyAre() throws IOException {
+    var ndjson = write(UserFileFormat.NDJSON, filter(false), row("=1+1"));
+
+    assertThat(ndjson).endsWith("\n");
+    var json = objectMapper.readTree(ndjson);
+    assertThat(json.get("fullname").asText()).isEqualTo("=1+1");
+    assertThat(json.get("created").asText()).isEqualTo("2022-06-01 10:00:00");
+  }
+
+  private String write(UserFileFormat format, UserExportFilter filter, UserExportRow row)
+      throws IOException {
+    var output = new ByteArrayOutputStream();
+    try (var writer = new UserExportWriter(output, format, filter, objectMapper)) {
+      writer.open();
+      writer.write(row);
+    }
+    return output.toString(UTF_8);
+  }
+
+  private static UserExportFilter filter(boolean details) {
+    return new UserExportFilter(null, null, null, null, null, details, details);
+  }
+
+  private static UserExportRow row(String fullname) {
+    return new UserExportRow(1L, CREATED, BaseStatus.ACTIVE, fullname, EMAIL, true,
+        AuthProvider.LOCAL, null, null, null);
+  }
+}
\ No newline at end of file
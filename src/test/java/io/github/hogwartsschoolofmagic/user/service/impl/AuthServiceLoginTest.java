@@ -0,0 +1,112 @@
+package io.github.hogwartsschoolofmagic.user.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+
+import io.github.hogwartsschoolofmagic.user.PostgresTest;
+import io.github.hogwartsschoolofmagic.user.QueryRecorder;
+import io.github.hogwartsschoolofmagic.user.config.PasswordEncoderConfig;
+import io.github.hogwartsschoolofmagic.user.event.publisher.UserChangedPublisher;
+import io.github.hogwartsschoolofmagic.user.security.CustomUserDetailsService;
+import io.github.hogwartsschoolofmagic.user.security.PrincipalCache;
+import io.github.hogwartsschoolofmagic.user.security.RoleRegistry;
+import io.github.hogwartsschoolofmagic.user.security.TokenProvider;
+import io.github.hogwartsschoolofmagic.user.service.AuthService;
+import io.github.hogwartsschoolofmagic.user.service.LastVisitService;
+import io.github.hogwartsschoolofmagic.user.service.MessageService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * <p> Test of the number of statements needed to log in. The user is read once by the
+ * authentication, and the token is created from the authenticated principal without reading the
+ * user again. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.14
+ */
+@Import({AuthServiceImpl.class, CustomUserDetailsService.class, PrincipalCache.class,
+    RoleRegistry.class, PasswordEncoderConfig.class,
+    AuthServiceLoginTest.AuthenticationConfig.class})
+@TestPropertySource(properties = "app.hashing.bcryptStrength=4")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuthServiceLoginTest extends PostgresTest {
+
+  private static final String EMAIL = "hermione@hogwarts.test";
+  private static final String PASSWORD = "Alohomora1!";
+
+  @Autowired
+  private AuthService authService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private QueryRecorder queryRecorder;
+
+  @MockBean
+  private TokenProvider tokenProvider;
+
+  @MockBean
+  private UserChangedPublisher userChangedPublisher;
+
+  @MockBean
+  private LastVisitService lastVisitService;
+
+  @MockBean
+  private MessageService messageService;
+
+  @BeforeEach
+  void register() {
+    authService.registerNewUserAccount(EMAIL, "Hermione Granger", PASSWORD);
+    queryRecorder.reset();
+  }
+
+  @AfterEach
+  void clean() {
+    SecurityContextHolder.clearContext();
+    truncateUserData(jdbcTemplate);
+  }
+
+  @Test
+  void readsUserOnceOnLogin() {
+    authService.creatingTokenForAuthUser(EMAIL, PASSWORD);
+
+    assertThat(queryRecorder.getQueries()).hasSize(1);
+    verify(tokenProvider).createToken(any());
+    verify(lastVisitService).recordVisit(any());
+  }
+
+  /**
+   * Authentication configured as in the security configuration of the application.
+   */
+  @TestConfiguration(proxyBeanMethods = false)
+  static class AuthenticationConfig {
+
+    @Bean
+    AuthenticationManager authenticationManager(CustomUserDetailsService userDetailsService,
+                                                PasswordEncoder passwordEncoder) {
+      var provider = new DaoAuthenticationProvider();
+      provider.setUserDetailsService(userDetailsService);
+      provider.setUserDetailsPasswordService(userDetailsService);
+      provider.setPasswordEncoder(passwordEncoder);
+      return new ProviderManager(provider);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,185 @@
+package io.github.hogwartsschoolofmagic.user.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.github.hogwartsschoolofmagic.user.PostgresTest;
+import io.github.hogwartsschoolofmagic.user.config.PasswordEncoderConfig;
+import io.github.hogwartsschoolofmagic.user.event.publisher.UserChangedPublisher;
+import io.github.hogwartsschoolofmagic.user.exception.handler.RestResponseEntityExceptionHandler;
+import io.github.hogwartsschoolofmagic.user.exception.resource.ResourceAlreadyExistException;
+import io.github.hogwartsschoolofmagic.user.security.RoleRegistry;
+import io.github.hogwartsschoolofmagic.user.security.TokenProvider;
+import io.github.hogwartsschoolofmagic.user.service.AuthService;
+import io.github.hogwartsschoolofmagic.user.service.LastVisitService;
+import io.github.hogwartsschoolofmagic.user.service.MessageService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * <p> Test of concurrent registrations. The registrations run in parallel transactions, as
+ * parallel requests do, and the unique index on the lower case email must let exactly one of
+ * the registrations with the same email through. A known email is rejected before the password
+ * is hashed. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.23
+ */
+@Import({AuthServiceImpl.class, RoleRegistry.class, PasswordEncoderConfig.class})
+@TestPropertySource(properties = "app.hashing.bcryptStrength=4")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuthServiceRegistrationTest extends PostgresTest {
+
+  private static final int REGISTRATIONS = 16;
+  private static final String EMAIL = "harry@hogwarts.test";
+  private static final String PASSWORD = "Alohomora1!";
+
+  private static final String USERS_BY_EMAIL_SQL =
+      "SELECT count(*) FROM users WHERE lower(email) = ?";
+
+  private static final String ROLES_BY_EMAIL_SQL = """
+      SELECT count(*) FROM user_roles ur JOIN users u ON u.base_id = ur.user_id
+      WHERE lower(u.email) = ?
+      """;
+
+  private final RestResponseEntityExceptionHandler exceptionHandler =
+      new RestResponseEntityExceptionHandler();
+
+  @Autowired
+  private AuthService authService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @SpyBean
+  private PasswordEncoder passwordEncoder;
+
+  @MockBean
+  private AuthenticationManager authenticationManager;
+
+  @MockBean
+  private TokenProvider tokenProvider;
+
+  @MockBean
+  private UserChangedPublisher userChangedPublisher;
+
+  @MockBean
+  private LastVisitService lastVisitService;
+
+  @MockBean
+  private MessageService messageService;
+
+  @AfterEach
+  void clean() {
+    truncateUserData(jdbcTemplate);
+  }
+
+  @Test
+  void registersOneUserForTheSameEmail() throws InterruptedException {
+    var results = registerInParallel(i -> i % 2 == 0 ? EMAIL : " Harry@Hogwarts.TEST");
+
+    var registered = results.stream().filter(RegistrationResult::isRegistered).count();
+    assertThat(registered).isEqualTo(1);
+    results.stream()
+        .filter(result -> !result.isRegistered())
+        .forEach(result -> {
+          assertThat(result.error()).isInstanceOf(ResourceAlreadyExistException.class);
+          var response = exceptionHandler.handleResourceAlreadyExist(
+              (ResourceAlreadyExistException) result.error());
+          assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        });
+
+    assertThat(count(USERS_BY_EMAIL_SQL, EMAIL)).isEqualTo(1);
+    assertThat(count(ROLES_BY_EMAIL_SQL, EMAIL)).isEqualTo(1);
+  }
+
+  @Test
+  void registersEveryUserForDistinctEmails() throws InterruptedException {
+    var results = registerInParallel(i -> "student" + i + "@hogwarts.test");
+
+    assertThat(results).allMatch(RegistrationResult::isRegistered);
+    for (int i = 0; i < REGISTRATIONS; i++) {
+      var email = "student" + i + "@hogwarts.test";
+      assertThat(count(USERS_BY_EMAIL_SQL, email)).as(email).isEqualTo(1);
+      assertThat(count(ROLES_BY_EMAIL_SQL, email)).as(email).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void rejectsKnownEmailBeforeHashingThePassword() {
+    authService.registerNewUserAccount(EMAIL, "Harry", PASSWORD);
+    clearInvocations(passwordEncoder);
+
+    assertThatThrownBy(() -> authService.registerNewUserAccount(" Harry@Hogwarts.TEST", "Harry",
+        PASSWORD)).isInstanceOf(ResourceAlreadyExistException.class);
+    verify(passwordEncoder, never()).encode(any());
+  }
+
+  private List<RegistrationResult> registerInParallel(IntFunction<String> emails)
+      throws InterruptedException {
+    var executor = Executors.newFixedThreadPool(REGISTRATIONS);
+    try {
+      var start = new CountDownLatch(1);
+      var futures = IntStream.range(0, REGISTRATIONS)
+          .mapToObj(i -> executor.submit(() -> {
+            start.await();
+            return authService.registerNewUserAccount(emails.apply(i), "Student " + i,
+                PASSWORD);
+          }))
+          .toList();
+      start.countDown();
+
+      var results = new ArrayList<RegistrationResult>(futures.size());
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+          results.add(new RegistrationResult(null));
+        } catch (ExecutionException e) {
+          results.add(new RegistrationResult(e.getCause()));
+        }
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private long count(String sql, String email) {
+    return jdbcTemplate.queryForObject(sql, Long.class, email);
+  }
+
+  /**
+   * Outcome of one registration.
+   *
+   * @param error exception thrown by the registration or null if the user was registered.
+   */
+  private record RegistrationResult(Throwable error) {
+
+    private boolean isRegistered() {
+      return error == null;
+    }
+  }
+}
\ No newline at end of file
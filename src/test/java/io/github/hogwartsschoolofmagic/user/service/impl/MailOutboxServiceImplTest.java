@@ -0,0 +1,121 @@
+package io.github.hogwartsschoolofmagic.user.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.github.hogwartsschoolofmagic.user.config.properties.MailOutboxProperties;
+import io.github.hogwartsschoolofmagic.user.enumeration.MailDeliveryStatus;
+import io.github.hogwartsschoolofmagic.user.persistence.dao.MailOutboxRepository;
+import io.github.hogwartsschoolofmagic.user.persistence.model.mail.MailOutboxMessage;
+import io.github.hogwartsschoolofmagic.user.service.MailService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+/**
+ * <p> Test of sending the letters of the outbox. The letters are claimed and their outcome is
+ * saved in separate transactions, the mail server is called between them, and any error of the
+ * mail server counts as an unsuccessful attempt. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.15
+ */
+class MailOutboxServiceImplTest {
+
+  private final MailOutboxRepository outboxRepository = mock(MailOutboxRepository.class);
+  private final MailService mailService = mock(MailService.class);
+  private final PlatformTransactionManager transactionManager =
+      mock(PlatformTransactionManager.class);
+  private final MailOutboxProperties properties = new MailOutboxProperties();
+  private final MailOutboxServiceImpl outboxService = new MailOutboxServiceImpl(outboxRepository,
+      mailService, properties, transactionManager, new SimpleMeterRegistry());
+
+  private final MailOutboxMessage message = new MailOutboxMessage();
+  private final MimeMessage letter = new MimeMessage((Session) null);
+
+  @BeforeEach
+  void setUp() {
+    message.setId(1L);
+    message.setCreated(LocalDateTime.now());
+    message.setRecipient("harry@hogwarts.test");
+    message.setToken("token");
+    message.setLocale("en");
+    message.setNextAttempt(LocalDateTime.now());
+
+    when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+    when(outboxRepository.lockDueMessages(any(), anyInt())).thenReturn(List.of(message));
+    when(outboxRepository.findAllById(List.of(1L))).thenReturn(List.of(message));
+    when(mailService.prepareVerifiedMessage(eq("harry@hogwarts.test"), eq("token"), any()))
+        .thenReturn(letter);
+  }
+
+  @Test
+  void sendsLetterOutsideTransactions() {
+    outboxService.dispatch();
+
+    var order = inOrder(transactionManager, outboxRepository, mailService);
+    order.verify(outboxRepository).lockDueMessages(any(), anyInt());
+    order.verify(transactionManager).commit(any());
+    order.verify(mailService).send(List.of(letter));
+    order.verify(transactionManager).getTransaction(any());
+    order.verify(outboxRepository).findAllById(List.of(1L));
+    order.verify(transactionManager).commit(any());
+    assertThat(message.getDeliveryStatus()).isEqualTo(MailDeliveryStatus.SENT);
+    assertThat(message.getAttempts()).isEqualTo(1);
+  }
+
+  @Test
+  void countsUnexpectedErrorAsFailedAttempt() {
+    doThrow(new IllegalStateException("Connection reset")).when(mailService).send(anyList());
+
+    outboxService.dispatch();
+
+    assertFailedAttempt("Connection reset");
+  }
+
+  @Test
+  void countsRejectedLetterAsFailedAttempt() {
+    doThrow(new MailSendException(Map.of(letter, new IllegalStateException("Mailbox full"))))
+        .when(mailService).send(anyList());
+
+    outboxService.dispatch();
+
+    assertFailedAttempt("Mailbox full");
+  }
+
+  @Test
+  void marksLetterAsDeadAfterLastAttempt() {
+    message.setAttempts(properties.getMaxAttempts() - 1);
+    doThrow(new IllegalStateException("Connection reset")).when(mailService).send(anyList());
+
+    outboxService.dispatch();
+
+    assertThat(message.getDeliveryStatus()).isEqualTo(MailDeliveryStatus.DEAD);
+    assertThat(message.getAttempts()).isEqualTo(properties.getMaxAttempts());
+  }
+
+  private void assertFailedAttempt(String error) {
+    assertThat(message.getDeliveryStatus()).isEqualTo(MailDeliveryStatus.PENDING);
+    assertThat(message.getAttempts()).isEqualTo(1);
+    assertThat(message.getLastError()).isEqualTo(error);
+    assertThat(message.getNextAttempt()).isCloseTo(
+        LocalDateTime.now().plus(properties.getInitialBackoff()), within(5, ChronoUnit.SECONDS));
+  }
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+package io.github.hogwartsschoolofmagic.user.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.hogwartsschoolofmagic.user.PostgresTest;
+import io.github.hogwartsschoolofmagic.user.enumeration.UserFileFormat;
+import io.github.hogwartsschoolofmagic.user.persistence.model.export.UserExportFilter;
+import io.github.hogwartsschoolofmagic.user.service.UserExportService;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * <p> Test of the export of a million users with a small heap. The test is run by the
+ * "constrained-heap-test" execution of Surefire in its own JVM with the heap limited to 128 MiB,
+ * which is far less than the exported file or the result of the query, so the export only passes
+ * if the users are streamed from the database to the output. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.26
+ */
+@Tag("constrained-heap")
+@Import({UserExportServiceImpl.class, JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserExportServiceMemoryTest extends PostgresTest {
+
+  private static final int USERS = 1_000_000;
+  private static final long MAX_HEAP = 128L << 20;
+
+  private static final String SEED_USERS_SQL = """
+      INSERT INTO users (full_name, email, email_verified, auth_provider, password)
+      SELECT 'Student ' || n, 'student' || n || '@hogwarts.test', n % 2 = 0, 'LOCAL', 'hash'
+      FROM generate_series(1, ?) AS n
+      """;
+
+  private static final String SEED_USER_ROLES_SQL = """
+      INSERT INTO user_roles (user_id, role_id)
+      SELECT u.base_id, r.base_id FROM users u JOIN roles r ON r.value = 'ROLE_USER'
+      """;
+
+  private static final String SEED_USER_SETTINGS_SQL = """
+      INSERT INTO user_settings (name, value, user_id)
+      SELECT 'locale', 'en', base_id FROM users
+      """;
+
+  @Autowired
+  private UserExportService userExportService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void seed() {
+    jdbcTemplate.update(SEED_USERS_SQL, USERS);
+    jdbcTemplate.update(SEED_USER_ROLES_SQL);
+    jdbcTemplate.update(SEED_USER_SETTINGS_SQL);
+  }
+
+  @AfterEach
+  void clean() {
+    truncateUserData(jdbcTemplate);
+  }
+
+  @Test
+  void exportsMillionUsersWithSmallHeap() throws IOException {
+    assertThat(Runtime.getRuntime().maxMemory()).isLessThanOrEqualTo(MAX_HEAP);
+    var filter = new UserExportFilter(null, null, null, null, null, true, true);
+    var output = new LineCountingOutputStream();
+
+    var count = userExportService.exportUsers(filter, UserFileFormat.NDJSON, output);
+
+    assertThat(count).isEqualTo(USERS);
+    assertThat(output.lines).isEqualTo(USERS);
+  }
+
+  /**
+   * Output stream that counts the written lines and drops the bytes.
+   */
+  private static final class LineCountingOutputStream extends OutputStream {
+
+    private long lines;
+
+    @Override
+    public void write(int b) {
+      if (b == '\n') {
+        lines++;
+      }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      for (int i = off; i < off + len; i++) {
+        write(b[i]);
+      }
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package io.github.hogwartsschoolofmagic.user.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hogwartsschoolofmagic.user.config.properties.UserImportProperties;
+import io.github.hogwartsschoolofmagic.user.enumeration.UserFileFormat;
+import io.github.hogwartsschoolofmagic.user.enumeration.UserImportStatus;
+import io.github.hogwartsschoolofmagic.user.persistence.dao.UserRepository;
+import io.github.hogwartsschoolofmagic.user.security.RoleRegistry;
+import io.github.hogwartsschoolofmagic.user.security.password.PasswordPolicy;
+import io.github.hogwartsschoolofmagic.user.service.MessageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * <p> Test of the temporary files of the bulk import. They hold the passwords in plain text, so
+ * none of them may stay in the import directory. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.25
+ */
+class UserImportServiceImplTest {
+
+  @TempDir
+  private Path directory;
+
+  private UserImportServiceImpl userImportService;
+
+  @BeforeEach
+  void setUp() {
+    var properties = new UserImportProperties();
+    properties.setDirectory(directory);
+    userImportService = new UserImportServiceImpl(mock(UserRepository.class),
+        mock(RoleRegistry.class), mock(PasswordEncoder.class), mock(PasswordPolicy.class),
+        mock(MessageService.class), mock(ApplicationEventPublisher.class), new ObjectMapper(),
+        properties, mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void tearDown() {
+    userImportService.shutdown();
+  }
+
+  @Test
+  void deletesLeftoverFilesAtStartup() throws IOException {
+    Files.writeString(directory.resolve("user-import-1.csv"), "email,name,password");
+
+    userImportService.init();
+
+    assertThat(directory).isEmptyDirectory();
+  }
+
+  @Test
+  void deletesReceivedFileAfterImport() throws IOException, InterruptedException {
+    userImportService.init();
+
+    var report = userImportService.submitImport(
+        new ByteArrayInputStream(new byte[0]), UserFileFormat.NDJSON);
+
+    assertThat(awaitStatus(report.id())).isEqualTo(UserImportStatus.COMPLETED);
+    assertThat(directory).isEmptyDirectory();
+  }
+
+  private UserImportStatus awaitStatus(UUID id) throws InterruptedException {
+    for (int attempt = 0; attempt < 100; attempt++) {
+      var status = userImportService.getImport(id).orElseThrow().status();
+      if (status != UserImportStatus.QUEUED && status != UserImportStatus.RUNNING) {
+        return status;
+      }
+      Thread.sleep(50);
+    }
+    throw new AssertionError("The import " + id + " did not finish");
+  }
+}
\ No newline at end of file
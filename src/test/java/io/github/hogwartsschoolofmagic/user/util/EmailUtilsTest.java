@@ -0,0 +1,89 @@
+package io.github.hogwartsschoolofmagic.user.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Locale;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * <p> Test of checking and canonicalizing email addresses. </p>
+ *
+ * @author Vladislav [SmithyVL] Kuznetsov.
+ * @since 0.6.22
+ */
+class EmailUtilsTest {
+
+  private static final String LONGEST_LOCAL_PART = "l".repeat(64);
+  private static final String LONGEST_LABEL = "d".repeat(63);
+
+  static Stream<String> longValidEmails() {
+    return Stream.of(
+        LONGEST_LOCAL_PART + "@hogwarts.test",
+        "harry@" + LONGEST_LABEL + ".test",
+        LONGEST_LOCAL_PART + "@" + LONGEST_LABEL + "." + LONGEST_LABEL + "." + "t".repeat(61));
+  }
+
+  static Stream<String> longInvalidEmails() {
+    return Stream.of(
+        LONGEST_LOCAL_PART + "l@hogwarts.test",
+        "harry@" + LONGEST_LABEL + "d.test",
+        LONGEST_LOCAL_PART + "@" + LONGEST_LABEL + "." + LONGEST_LABEL + "." + "t".repeat(62));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"harry@hogwarts.test", "Harry@Hogwarts.TEST", "h@hogwarts.test",
+      "harry.potter@hogwarts.test", "harry_potter@hogwarts.test", "harry-potter@hogwarts.test",
+      "harry+quidditch@hogwarts.test", "h.j.potter@owls.hogwarts.co.uk", "harry1980@hogwarts.test",
+      "_@hogwarts.test", "harry@hog-warts.test", "harry@hogwarts42.test", "harry@1hogwarts.test",
+      "harry@h.uk"})
+  void acceptsValidEmails(String email) {
+    assertThat(EmailUtils.isValid(email)).isTrue();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "harry", "harry@", "@hogwarts.test", "harry@hogwarts",
+      ".harry@hogwarts.test", "harry.@hogwarts.test", "harry..potter@hogwarts.test",
+      "harry@@hogwarts.test", "harry@hogwarts@test.com", "harry potter@hogwarts.test",
+      " harry@hogwarts.test", "harry@hogwarts.test ", "harry\"@hogwarts.test",
+      "harry!@hogwarts.test", "гарри@hogwarts.test", "harry@хогвартс.рф",
+      "harry@.hogwarts.test", "harry@hogwarts..test", "harry@hogwarts.test.",
+      "harry@-hogwarts.test", "harry@hogwarts-.test", "harry@hogwarts.t", "harry@hogwarts.c0m",
+      "harry@hogwarts.te-st", "harry@hog_warts.test", "harry@hogwarts.test:8080"})
+  void rejectsInvalidEmails(String email) {
+    assertThat(EmailUtils.isValid(email)).isFalse();
+  }
+
+  @ParameterizedTest
+  @MethodSource("longValidEmails")
+  void acceptsEmailsAtTheLengthLimits(String email) {
+    assertThat(EmailUtils.isValid(email)).isTrue();
+  }
+
+  @ParameterizedTest
+  @MethodSource("longInvalidEmails")
+  void rejectsEmailsOverTheLengthLimits(String email) {
+    assertThat(EmailUtils.isValid(email)).isFalse();
+  }
+
+  @Test
+  void canonicalizesEmail() {
+    assertThat(EmailUtils.canonicalize(" Harry.Potter@Hogwarts.TEST\t"))
+        .isEqualTo("harry.potter@hogwarts.test");
+    assertThat(EmailUtils.canonicalize(null)).isNull();
+  }
+
+  @Test
+  void canonicalizesEmailRegardlessOfDefaultLocale() {
+    var defaultLocale = Locale.getDefault();
+    Locale.setDefault(Locale.forLanguageTag("tr"));
+    try {
+      assertThat(EmailUtils.canonicalize("INDIGO@HOGWARTS.TEST")).isEqualTo("indigo@hogwarts.test");
+    } finally {
+      Locale.setDefault(defaultLocale);
+    }
+  }
+}
\ No newline at end of file